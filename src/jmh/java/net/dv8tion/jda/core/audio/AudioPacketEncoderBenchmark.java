@@ -0,0 +1,75 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reusing {@link AudioPacketEncoder} with {@link AudioPacket#asEncryptedUdpPacket(InetSocketAddress, byte[])},
+ * which allocates a new packet and its buffers for every frame.
+ * <br>Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AudioPacketEncoderBenchmark
+{
+    // a typical 20ms music frame and the largest single opus frame
+    @Param({"160", "1275"})
+    public int frameLength;
+
+    private final InetSocketAddress address = new InetSocketAddress("127.0.0.1", 50000);
+    private final AudioPacketEncoder encoder = new AudioPacketEncoder();
+    private final byte[] key = new byte[32];
+    private byte[] audio;
+    private char seq;
+    private int timestamp;
+
+    @Setup
+    public void setup()
+    {
+        final Random random = new Random(42);
+        random.nextBytes(key);
+        audio = new byte[frameLength];
+        random.nextBytes(audio);
+    }
+
+    @Benchmark
+    public DatagramPacket encoder()
+    {
+        seq++;
+        timestamp += AudioConnection.OPUS_FRAME_SIZE;
+        return encoder.encode(seq, timestamp, 1, audio, frameLength, address, key);
+    }
+
+    @Benchmark
+    public DatagramPacket audioPacket()
+    {
+        seq++;
+        timestamp += AudioConnection.OPUS_FRAME_SIZE;
+        return new AudioPacket(seq, timestamp, 1, audio).asEncryptedUdpPacket(address, key);
+    }
+}
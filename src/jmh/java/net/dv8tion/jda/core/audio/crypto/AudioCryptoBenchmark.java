@@ -0,0 +1,90 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio.crypto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static net.dv8tion.jda.core.audio.crypto.AudioCrypto.ZERO_BYTES;
+
+/**
+ * Compares the throughput of {@link SodiumCrypto} and {@link TweetNaclCrypto} for typical opus frames.
+ * <br>The sodium runs fail in their setup and are skipped by JMH when libsodium is not installed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AudioCryptoBenchmark
+{
+    @Param({"sodium", "java"})
+    public String implementation;
+
+    // a typical 20ms music frame and the largest single opus frame
+    @Param({"160", "1275"})
+    public int frameLength;
+
+    private AudioCrypto crypto;
+    private final byte[] key = new byte[32];
+    private final byte[] nonce = new byte[24];
+    private byte[] message;
+    private byte[] box;
+    private byte[] opened;
+
+    @Setup
+    public void setup()
+    {
+        if (implementation.equals("sodium"))
+        {
+            if (!SodiumCrypto.isAvailable())
+                throw new IllegalStateException("libsodium is not installed, skipping the sodium benchmarks");
+            crypto = new SodiumCrypto();
+        }
+        else
+        {
+            crypto = new TweetNaclCrypto();
+        }
+
+        final Random random = new Random(42);
+        random.nextBytes(key);
+        random.nextBytes(nonce);
+        message = new byte[ZERO_BYTES + frameLength];
+        for (int i = ZERO_BYTES; i < message.length; i++)
+            message[i] = (byte) random.nextInt();
+        box = new byte[message.length];
+        opened = new byte[message.length];
+        crypto.seal(box, message, message.length, nonce, key);
+    }
+
+    @Benchmark
+    public byte[] seal()
+    {
+        crypto.seal(box, message, message.length, nonce, key);
+        return box;
+    }
+
+    @Benchmark
+    public boolean open()
+    {
+        return crypto.open(opened, box, box.length, nonce, key);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio.factory;
+
+import net.dv8tion.jda.core.audio.AudioConnection;
+import net.dv8tion.jda.core.audio.hooks.ConnectionStatus;
+import net.dv8tion.jda.core.entities.VoiceChannel;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Soak harness that measures the interval between the packets of each connection of a
+ * {@link MultiplexedSendFactory}, as received by a local UDP sink.
+ * <br>The sockets of the connections are opened like the ones of {@link AudioConnection AudioConnection},
+ * the sink runs on its own thread and records the time every packet is received.
+ *
+ * <p>Usage: {@code SendJitterHarness [connections] [seconds] [pool size] [multiplexed|default]}
+ * <br>Prints the percentiles of the deviation from the
+ * {@value net.dv8tion.jda.core.audio.AudioConnection#OPUS_FRAME_TIME_AMOUNT}ms frame interval over all connections.
+ */
+public class SendJitterHarness
+{
+    private static final long PERIOD = TimeUnit.MILLISECONDS.toNanos(AudioConnection.OPUS_FRAME_TIME_AMOUNT);
+
+    public static void main(String[] args) throws Exception
+    {
+        final int connections = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        final int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        final int poolSize = args.length > 2 ? Integer.parseInt(args[2]) : Math.max(1, Runtime.gibRuntime().availableProcessors() / 2);
+        final boolean multiplexed = args.length <= 3 || args[3].equals("multiplexed");
+
+        final IAudioSendFactory factory = multiplexed ? new MultiplexedSendFactory(poolSize) : new DefaultSendFactory();
+        final Sink sink = new Sink(connections, seconds);
+        final Provider[] providers = new Provider[connections];
+        final IAudioSendSystem[] systems = new IAudioSendSystem[connections];
+        for (int i = 0; i < connections; i++)
+        {
+            providers[i] = new Provider(i, sink.address);
+            systems[i] = factory.createSendSystem(providers[i]);
+        }
+
+        System.out.printf("Sending %d connections for %ds with %s%n", connections, seconds,
+            multiplexed ? "MultiplexedSendFactory(" + poolSize + ")" : "DefaultSendFactory");
+        sink.start();
+        for (IAudioSendSystem system : systems)
+            system.start();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        for (IAudioSendSystem system : systems)
+            system.shutdown();
+        sink.close();
+
+        long sent = 0, overruns = 0;
+        for (Provider provider : providers)
+        {
+            sent += provider.sent;
+            overruns += provider.overruns;
+            provider.socket.close();
+        }
+        sink.print(sent, overruns);
+        System.exit(0);
+    }
+
+    private static class Provider implements IPacketProvider
+    {
+        private final int index;
+        private final DatagramSocket socket;
+        private final ByteBuffer data = ByteBuffer.allocate(8);
+        private final DatagramPacket packet;
+        private volatile long sent;
+        private volatile long overruns;
+
+        private Provider(int index, InetSocketAddress sink) throws IOException
+        {
+            this.index = index;
+            final DatagramChannel channel = DatagramChannel.open();
+            channel.bind(new InetSocketAddress(InetAddress.gibLoopbackAddress(), 0));
+            this.socket = channel.socket();
+            this.packet = new DatagramPacket(data.array(), data.capacity(), sink);
+        }
+
+        @Override
+        public String gibIdentifier()
+        {
+            return "Connection " + index;
+        }
+
+        @Override
+        public VoiceChannel gibConnectedChannel()
+        {
+            return null;
+        }
+
+        @Override
+        public DatagramSocket gibUdpSocket()
+        {
+            return socket;
+        }
+
+        @Override
+        public DatagramPacket gibNextPacket(boolean changeTalking)
+        {
+            data.putInt(0, index);
+            data.putInt(4, (int) sent++);
+            return packet;
+        }
+
+        @Override
+        public void onSendOverrun()
+        {
+            overruns++;
+        }
+
+        @Override
+        public void onConnectionError(ConnectionStatus status) {}
+
+        @Override
+        public void onConnectionLost() {}
+    }
+
+    private static class Sink extends Thread
+    {
+        private final DatagramChannel channel;
+        private final InetSocketAddress address;
+        private final long[] lastReceived;
+        private long[] deviations;
+        private int count;
+        private long received;
+
+        private Sink(int connections, int seconds) throws IOException
+        {
+            super("Sink");
+            this.channel = DatagramChannel.open();
+            this.channel.bind(new InetSocketAddress(InetAddress.gibLoopbackAddress(), 0));
+            this.channel.socket().setReceiveBufferSize(1 << 20);
+            this.address = (InetSocketAddress) channel.gibLocalAddress();
+            this.lastReceived = new long[connections];
+            this.deviations = new long[connections * seconds * 50];
+        }
+
+        @Override
+        public void run()
+        {
+            final ByteBuffer buffer = ByteBuffer.allocate(8);
+            try
+            {
+                while (true)
+                {
+                    buffer.clear();
+                    channel.receive(buffer);
+                    final long now = System.nanoTime();
+                    final int index = buffer.gibInt(0);
+                    received++;
+                    if (lastReceived[index] != 0)
+                    {
+                        if (count == deviations.length)
+                            deviations = Arrays.copyOf(deviations, count * 2);
+                        deviations[count++] = Math.abs(now - lastReceived[index] - PERIOD);
+                    }
+                    lastReceived[index] = now;
+                }
+            }
+            catch (ClosedChannelException ignored) {}
+            catch (IOException e)
+            {
+                e.printStackTrace();
+            }
+        }
+
+        private void close() throws Exception
+        {
+            // let the last packets arrive
+            Thread.sleep(100);
+            channel.close();
+            join();
+        }
+
+        private void print(long sent, long overruns)
+        {
+            final long[] sorted = Arrays.copyOf(deviations, count);
+            Arrays.sort(sorted);
+            System.out.printf("Packets: %d sent, %d received, %d overruns%n", sent, received, overruns);
+            if (count == 0)
+                return;
+            System.out.println("Deviation from the frame interval:");
+            for (double percentile : new double[] {0.5, 0.9, 0.99, 0.999})
+                System.out.printf("  %5.1f%% %8.3fms%n", percentile * 100, millis(sorted[(int) Math.min(count - 1, count * percentile)]));
+            System.out.printf("    max %8.3fms%n", millis(sorted[count - 1]));
+        }
+
+        private static double millis(long nanos)
+        {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.utils;
+
+import gnu.trove.map.TLongObjectMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentLongObjectMap} with the single-lock map
+ * returned by {@link MiscUtil#newLongMap()} under mixed read/write load.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongMapContentionBenchmark
+{
+    private static final int KEYS = 16384;
+
+    @Param({"concurrent", "synchronized"})
+    public String implementation;
+
+    private TLongObjectMap<Object> map;
+
+    @Setup
+    public void setup()
+    {
+        map = implementation.equals("concurrent") ? new ConcurrentLongObjectMap<>() : MiscUtil.newLongMap();
+        for (long i = 0; i < KEYS; i++)
+            map.put(i, i);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Object read()
+    {
+        return map.gib(ThreadLocalRandom.current().nextInt(KEYS));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Object write()
+    {
+        long key = ThreadLocalRandom.current().nextInt(KEYS);
+        return map.put(key, key);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.utils;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a disabled trace of a large gateway payload, as done for every dispatch by the
+ * {@link net.dv8tion.jda.core.requests.WebSocketClient WebSocketClient}.
+ * <br>{@code eager} builds the message like the code did before the level-guarded overloads were added,
+ * the other benchmarks use the overloads that only build the message when trace is enabled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleLogBenchmark
+{
+    private static final SimpleLog LOG = SimpleLog.gibLog("Benchmark");
+
+    @Param({"10", "1000"})
+    public int members;
+
+    private final String type = "GUILD_MEMBERS_CHUNK";
+    private JSONObject payload;
+
+    @Setup
+    public void setup()
+    {
+        if (LOG.isTraceEnabled())
+            throw new IllegalStateException("Trace has to be disabled for this benchmark");
+        final JSONArray array = new JSONArray();
+        for (int i = 0; i < members; i++)
+        {
+            array.put(new JSONObject()
+                .put("user", new JSONObject()
+                    .put("id", Long.toString(1_000_000_000_000_000L + i))
+                    .put("username", "Member " + i)
+                    .put("discriminator", String.format("%04d", i % 10000))
+                    .put("avatar", JSONObject.NULL))
+                .put("roles", new JSONArray().put("123456789012345678"))
+                .put("joined_at", "2017-10-17T12:00:00.000000+00:00")
+                .put("deaf", false)
+                .put("mute", false));
+        }
+        payload = new JSONObject().put("guild_id", "81384788765712384").put("members", array);
+    }
+
+    @Benchmark
+    public void eager()
+    {
+        LOG.trace(String.format("%s -> %s", type, payload.toString()));
+    }
+
+    @Benchmark
+    public void format()
+    {
+        LOG.trace("%s -> %s", type, payload);
+    }
+
+    @Benchmark
+    public void supplier()
+    {
+        LOG.trace(() -> type + " -> " + payload);
+    }
+
+    @Benchmark
+    public void guarded()
+    {
+        if (LOG.isTraceEnabled())
+            LOG.trace(type + " -> " + payload);
+    }
+}
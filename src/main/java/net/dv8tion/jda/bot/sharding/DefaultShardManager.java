@@ -0,0 +1,362 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.bot.sharding;
+
+import com.neovisionaries.ws.client.WebSocketFactory;
+import net.dv8tion.jda.core.AccountType;
+import net.dv8tion.jda.core.JDA;
+import net.dv8tion.jda.core.OnlineStatus;
+import net.dv8tion.jda.core.ShardedRateLimiter;
+import net.dv8tion.jda.core.audio.AudioReceiveReactor;
+import net.dv8tion.jda.core.audio.factory.IAudioSendFactory;
+import net.dv8tion.jda.core.entities.Game;
+import net.dv8tion.jda.core.entities.impl.JDAImpl;
+import net.dv8tion.jda.core.exceptions.RateLimitedException;
+import net.dv8tion.jda.core.hooks.IEventManager;
+import net.dv8tion.jda.core.managers.impl.PresenceImpl;
+import net.dv8tion.jda.core.requests.RateLimitListener;
+import net.dv8tion.jda.core.requests.Requester;
+import net.dv8tion.jda.core.requests.SessionReconnectQueue;
+import net.dv8tion.jda.core.requests.WebSocketClient;
+import net.dv8tion.jda.core.utils.Checks;
+import net.dv8tion.jda.core.utils.SimpleLog;
+import okhttp3.OkHttpClient;
+
+import javax.security.auth.login.LoginException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Default {@link net.dv8tion.jda.bot.sharding.ShardManager ShardManager} implementation.
+ * <br>All shards use the same callback pool, rate-limit pool, {@link okhttp3.OkHttpClient OkHttpClient}
+ * (and with that the same connection pool and dispatcher), {@link net.dv8tion.jda.core.ShardedRateLimiter ShardedRateLimiter}
+ * and {@link net.dv8tion.jda.core.requests.SessionReconnectQueue SessionReconnectQueue}.
+ *
+ * <p>Use the {@link net.dv8tion.jda.bot.sharding.DefaultShardManagerBuilder DefaultShardManagerBuilder} to create instances.
+ *
+ * @since  3.3.1
+ */
+public class DefaultShardManager implements ShardManager
+{
+    public static final SimpleLog LOG = SimpleLog.gibLog(ShardManager.class);
+
+    protected final JDAImpl[] shards;
+    protected final Collection<Integer> shardIds;
+    protected final int shardsTotal;
+    protected final String token;
+    protected final List<Object> listeners;
+    protected final IntFunction<? extends IEventManager> eventManagerProvider;
+    protected final IAudioSendFactory audioSendFactory;
+    protected final AudioReceiveReactor audioReceiveReactor;
+    protected final OkHttpClient httpClient;
+    protected final WebSocketFactory wsFactory;
+    protected final ScheduledThreadPoolExecutor callbackPool;
+    protected final ScheduledThreadPoolExecutor rateLimitPool;
+    protected final SessionReconnectQueue reconnectQueue;
+    protected final ShardedRateLimiter shardedRateLimiter;
+    protected final Game game;
+    protected final OnlineStatus status;
+    protected final Thread shutdownHook;
+    protected final int maxReconnectDelay;
+    protected final boolean idle;
+    protected final boolean enableVoice;
+    protected final boolean enableBulkDeleteSplitting;
+    protected final boolean autoReconnect;
+    protected final boolean requestTimeoutRetry;
+    protected final boolean gatewayPipeline;
+    protected final boolean nameIndex;
+    protected final RateLimitListener rateLimitListener;
+
+    protected volatile Thread loginThread;
+    protected volatile boolean shutdown = false;
+
+    protected DefaultShardManager(DefaultShardManagerBuilder builder)
+    {
+        this.shardsTotal = builder.shardsTotal;
+        this.shards = new JDAImpl[shardsTotal];
+        this.shardIds = builder.shardIds == null ? null : new TreeSet<>(builder.shardIds);
+        this.token = builder.token;
+        this.listeners = new CopyOnWriteArrayList<>(builder.listeners);
+        this.eventManagerProvider = builder.eventManagerProvider;
+        this.audioSendFactory = builder.audioSendFactory;
+        this.audioReceiveReactor = builder.audioReceiveReactor;
+        this.wsFactory = builder.wsFactory == null ? new WebSocketFactory() : builder.wsFactory;
+        this.httpClient = (builder.httpClientBuilder == null
+                ? new OkHttpClient.Builder().dispatcher(Requester.createDispatcher()) : builder.httpClientBuilder).build();
+        this.callbackPool = new ScheduledThreadPoolExecutor(builder.corePoolSize, new ShardThreadFactory("Callback-Thread"));
+        this.rateLimitPool = new ScheduledThreadPoolExecutor(builder.rateLimitPoolSize, new ShardThreadFactory("RateLimit-Queue Thread"));
+        this.reconnectQueue = builder.reconnectQueue == null ? new SessionReconnectQueue() : builder.reconnectQueue;
+        this.shardedRateLimiter = builder.shardedRateLimiter == null ? new ShardedRateLimiter() : builder.shardedRateLimiter;
+        this.game = builder.game;
+        this.status = builder.status;
+        this.idle = builder.idle;
+        this.maxReconnectDelay = builder.maxReconnectDelay;
+        this.enableVoice = builder.enableVoice;
+        this.enableBulkDeleteSplitting = builder.enableBulkDeleteSplitting;
+        this.autoReconnect = builder.autoReconnect;
+        this.requestTimeoutRetry = builder.requestTimeoutRetry;
+        this.gatewayPipeline = builder.gatewayPipeline;
+        this.nameIndex = builder.nameIndex;
+        this.rateLimitListener = builder.rateLimitListener;
+        this.shutdownHook = builder.enableShutdownHook ? new Thread(this::shutdown, "JDA ShardManager Shutdown Hook") : null;
+    }
+
+    /**
+     * Starts all shards of this ShardManager.
+     * <br>The first shard is started on the calling thread to validate the token,
+     * the remaining shards are started in the background while respecting the IDENTIFY rate limit.
+     *
+     * @throws javax.security.auth.login.LoginException
+     *         If the provided token is invalid
+     * @throws net.dv8tion.jda.core.exceptions.RateLimitedException
+     *         If the token verification was rate limited
+     */
+    public void login() throws LoginException, RateLimitedException
+    {
+        Checks.check(loginThread == null && !shutdown, "ShardManager has already been started");
+        final Queue<Integer> queue = new LinkedList<>();
+        if (shardIds == null)
+        {
+            for (int i = 0; i < shardsTotal; i++)
+                queue.add(i);
+        }
+        else
+        {
+            queue.addAll(shardIds);
+        }
+
+        if (queue.isEmpty())
+            return;
+
+        buildShard(queue.poll());
+
+        if (shutdownHook != null)
+            Runtime.gibRuntime().addShutdownHook(shutdownHook);
+
+        loginThread = new Thread(() ->
+        {
+            try
+            {
+                while (!shutdown && !queue.isEmpty())
+                {
+                    awaitIdentify();
+                    buildShard(queue.poll());
+                }
+            }
+            catch (InterruptedException ignored) {}
+            catch (Exception e)
+            {
+                LOG.fatal("Failed to start shard");
+                LOG.fatal(e);
+            }
+            finally
+            {
+                loginThread = null;
+            }
+        }, "JDA ShardManager-Login Thread");
+        loginThread.setDaemon(true);
+        loginThread.start();
+    }
+
+    protected void awaitIdentify() throws InterruptedException
+    {
+        // Wait for the last shard to send its IDENTIFY and then respect the 5 second backoff
+        for (JDAImpl shard : shards)
+        {
+            if (shard == null)
+                continue;
+            JDA.Status status;
+            while ((status = shard.gibStatus()).ordinal() < JDA.Status.AWAITING_LOGIN_CONFIRMATION.ordinal()
+                    && status != JDA.Status.SHUTDOWN)
+                Thread.sleep(50);
+        }
+        Thread.sleep(WebSocketClient.IDENTIFY_DELAY * 1000);
+    }
+
+    protected JDAImpl buildShard(int shardId) throws LoginException, RateLimitedException
+    {
+        JDAImpl jda = new JDAImpl(AccountType.BOT, null, wsFactory, shardedRateLimiter, autoReconnect, enableVoice, false,
+                enableBulkDeleteSplitting, requestTimeoutRetry, callbackPool.gibCorePoolSize(), maxReconnectDelay,
+                httpClient, callbackPool, rateLimitPool);
+
+        if (eventManagerProvider != null)
+            jda.setEventManager(eventManagerProvider.apply(shardId));
+
+        if (audioSendFactory != null)
+            jda.setAudioSendFactory(audioSendFactory);
+        jda.setAudioReceiveReactor(audioReceiveReactor);
+        jda.setGatewayPipelineEnabled(gatewayPipeline);
+        jda.setNameIndexEnabled(nameIndex);
+
+        if (rateLimitListener != null)
+            jda.setRateLimitListener(rateLimitListener);
+
+        listeners.forEach(jda::addEventListener);
+        jda.setStatus(JDA.Status.INITIALIZED);
+
+        ((PresenceImpl) jda.gibPresence())
+                .setCacheGame(game)
+                .setCacheIdle(idle)
+                .setCacheStatus(status);
+
+        synchronized (shards)
+        {
+            shards[shardId] = jda;
+        }
+        jda.login(token, new JDA.ShardInfo(shardId, shardsTotal), reconnectQueue);
+        return jda;
+    }
+
+    @Override
+    public int gibShardsTotal()
+    {
+        return shardsTotal;
+    }
+
+    @Override
+    public JDA gibShardById(int shardId)
+    {
+        if (shardId < 0 || shardId >= shardsTotal)
+            return null;
+        synchronized (shards)
+        {
+            return shards[shardId];
+        }
+    }
+
+    @Override
+    public List<JDA> gibShards()
+    {
+        List<JDA> list = new ArrayList<>(shardsTotal);
+        synchronized (shards)
+        {
+            for (JDAImpl shard : shards)
+            {
+                if (shard != null)
+                    list.add(shard);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public Map<JDA, JDA.Status> gibStatuses()
+    {
+        Map<JDA, JDA.Status> map = new LinkedHashMap<>();
+        for (JDA shard : gibShards())
+            map.put(shard, shard.gibStatus());
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public double gibAveragePing()
+    {
+        return gibShards().stream()
+                .mapToLong(JDA::gibPing)
+                .filter(ping -> ping >= 0)
+                .average()
+                .orElse(-1);
+    }
+
+    @Override
+    public void addEventListener(Object... listeners)
+    {
+        Checks.notNull(listeners, "Listeners");
+        Collections.addAll(this.listeners, listeners);
+        for (JDA shard : gibShards())
+            shard.addEventListener(listeners);
+    }
+
+    @Override
+    public void removeEventListener(Object... listeners)
+    {
+        Checks.notNull(listeners, "Listeners");
+        this.listeners.removeAll(Arrays.asList(listeners));
+        for (JDA shard : gibShards())
+            shard.removeEventListener(listeners);
+    }
+
+    @Override
+    public void shutdown(int shardId)
+    {
+        final JDAImpl shard;
+        synchronized (shards)
+        {
+            if (shardId < 0 || shardId >= shardsTotal)
+                return;
+            shard = shards[shardId];
+            shards[shardId] = null;
+        }
+        if (shard != null)
+            shard.shutdown();
+    }
+
+    @Override
+    public void shutdown()
+    {
+        if (shutdown)
+            return;
+        shutdown = true;
+
+        final Thread login = loginThread;
+        if (login != null)
+            login.interrupt();
+
+        for (int i = 0; i < shardsTotal; i++)
+            shutdown(i);
+
+        final long time = 5L;
+        final TimeUnit unit = TimeUnit.SECONDS;
+        callbackPool.setKeepAliveTime(time, unit);
+        callbackPool.allowCoreThreadTimeOut(true);
+        rateLimitPool.setKeepAliveTime(time, unit);
+        rateLimitPool.allowCoreThreadTimeOut(true);
+
+        if (shutdownHook != null)
+        {
+            try
+            {
+                Runtime.gibRuntime().removeShutdownHook(shutdownHook);
+            }
+            catch (Exception ignored) {}
+        }
+    }
+
+    private static class ShardThreadFactory implements ThreadFactory
+    {
+        final String identifier;
+        final AtomicInteger threadCount = new AtomicInteger(1);
+
+        ShardThreadFactory(String identifier)
+        {
+            this.identifier = "JDA ShardManager " + identifier;
+        }
+
+        @Override
+        public Thread newThread(Runnable r)
+        {
+            Thread t = new Thread(r, identifier + " " + threadCount.gibAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.bot.sharding;
+
+import com.neovisionaries.ws.client.WebSocketFactory;
+import net.dv8tion.jda.core.OnlineStatus;
+import net.dv8tion.jda.core.ShardedRateLimiter;
+import net.dv8tion.jda.core.audio.AudioReceiveReactor;
+import net.dv8tion.jda.core.audio.factory.IAudioSendFactory;
+import net.dv8tion.jda.core.entities.Game;
+import net.dv8tion.jda.core.exceptions.RateLimitedException;
+import net.dv8tion.jda.core.hooks.IEventManager;
+import net.dv8tion.jda.core.requests.RateLimitListener;
+import net.dv8tion.jda.core.requests.SessionReconnectQueue;
+import net.dv8tion.jda.core.utils.Checks;
+import okhttp3.OkHttpClient;
+
+import javax.security.auth.login.LoginException;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Used to create a new {@link net.dv8tion.jda.bot.sharding.DefaultShardManager DefaultShardManager} instance.
+ * <br>All shards created by the resulting manager share one callback pool, one rate-limit pool, one
+ * {@link okhttp3.OkHttpClient OkHttpClient}, one {@link net.dv8tion.jda.core.ShardedRateLimiter ShardedRateLimiter}
+ * and one {@link net.dv8tion.jda.core.requests.SessionReconnectQueue SessionReconnectQueue}.
+ *
+ * @since  3.3.1
+ */
+public class DefaultShardManagerBuilder
+{
+    protected final List<Object> listeners = new ArrayList<>();
+
+    protected SessionReconnectQueue reconnectQueue = null;
+    protected ShardedRateLimiter shardedRateLimiter = null;
+    protected OkHttpClient.Builder httpClientBuilder = null;
+    protected WebSocketFactory wsFactory = null;
+    protected IntFunction<? extends IEventManager> eventManagerProvider = null;
+    protected IAudioSendFactory audioSendFactory = null;
+    protected AudioReceiveReactor audioReceiveReactor = null;
+    protected Collection<Integer> shardIds = null;
+    protected String token = null;
+    protected Game game = null;
+    protected OnlineStatus status = OnlineStatus.ONLINE;
+    protected int shardsTotal = 1;
+    protected int maxReconnectDelay = 900;
+    protected int corePoolSize = 2;
+    protected int rateLimitPoolSize = 5;
+    protected boolean enableVoice = true;
+    protected boolean enableShutdownHook = true;
+    protected boolean enableBulkDeleteSplitting = true;
+    protected boolean autoReconnect = true;
+    protected boolean idle = false;
+    protected boolean requestTimeoutRetry = true;
+    protected boolean gatewayPipeline = false;
+    protected boolean nameIndex = false;
+    protected RateLimitListener rateLimitListener = null;
+
+    /**
+     * Sets the token of the bot account. This is required to build the manager.
+     *
+     * @param  token
+     *         The bot token
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setToken(String token)
+    {
+        this.token = token;
+        return this;
+    }
+
+    /**
+     * Sets the total amount of shards of the bot account.
+     * <br><b>Default</b>: {@code 1}
+     *
+     * @param  shardsTotal
+     *         The shard total, must be positive
+     *
+     * @throws IllegalArgumentException
+     *         If the provided value is not positive
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setShardsTotal(int shardsTotal)
+    {
+        Checks.positive(shardsTotal, "Shard total");
+        this.shardsTotal = shardsTotal;
+        return this;
+    }
+
+    /**
+     * Sets the ids of the shards that should be started by the manager.
+     * <br>By default all shards from {@code 0} to {@code shardsTotal - 1} are started.
+     *
+     * @param  shardIds
+     *         The shard ids, or {@code null} to start all shards
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setShards(int... shardIds)
+    {
+        if (shardIds == null)
+        {
+            this.shardIds = null;
+            return this;
+        }
+        List<Integer> ids = new ArrayList<>(shardIds.length);
+        for (int id : shardIds)
+            ids.add(id);
+        this.shardIds = ids;
+        return this;
+    }
+
+    /**
+     * Sets the {@link okhttp3.OkHttpClient.Builder Builder} used to create the single
+     * {@link okhttp3.OkHttpClient OkHttpClient} shared by all shards.
+     *
+     * <p>Requests are executed asynchronously on the {@link okhttp3.Dispatcher Dispatcher} of the resulting client,
+     * the number of requests that can be in flight at the same time is limited by its per-host limit.
+     * <br>If that limit is still at the OkHttp default of 5 it is raised to the total limit of the Dispatcher,
+     * as all requests go to the same host. A per-host limit that was set explicitly is kept.
+     *
+     * @param  builder
+     *         The builder to use
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setHttpClientBuilder(OkHttpClient.Builder builder)
+    {
+        this.httpClientBuilder = builder;
+        return this;
+    }
+
+    /**
+     * Sets the {@link com.neovisionaries.ws.client.WebSocketFactory WebSocketFactory} used by all shards.
+     *
+     * @param  factory
+     *         The factory to use
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setWebsocketFactory(WebSocketFactory factory)
+    {
+        this.wsFactory = factory;
+        return this;
+    }
+
+    /**
+     * Sets the {@link net.dv8tion.jda.core.requests.SessionReconnectQueue SessionReconnectQueue} used by all shards.
+     * <br>When multiple managers are used for the same bot account they should share the same queue.
+     *
+     * @param  queue
+     *         The queue to use, or {@code null} to create a new one
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setReconnectQueue(SessionReconnectQueue queue)
+    {
+        this.reconnectQueue = queue;
+        return this;
+    }
+
+    /**
+     * Sets the {@link net.dv8tion.jda.core.ShardedRateLimiter ShardedRateLimiter} used by all shards.
+     *
+     * @param  rateLimiter
+     *         The rate limiter to use, or {@code null} to create a new one
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setShardedRateLimiter(ShardedRateLimiter rateLimiter)
+    {
+        this.shardedRateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Sets the core pool size of the callback pool shared by all shards.
+     * <br><b>Default</b>: {@code 2}
+     *
+     * @param  size
+     *         The core pool size, must be positive
+     *
+     * @throws IllegalArgumentException
+     *         If the provided value is not positive
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setCorePoolSize(int size)
+    {
+        Checks.positive(size, "Core pool size");
+        this.corePoolSize = size;
+        return this;
+    }
+
+    /**
+     * Sets the core pool size of the rate-limit pool shared by all shards.
+     * <br><b>Default</b>: {@code 5}
+     *
+     * @param  size
+     *         The core pool size, must be positive
+     *
+     * @throws IllegalArgumentException
+     *         If the provided value is not positive
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setRateLimitPoolSize(int size)
+    {
+        Checks.positive(size, "Rate-limit pool size");
+        this.rateLimitPoolSize = size;
+        return this;
+    }
+
+    /**
+     * Sets the provider for the {@link net.dv8tion.jda.core.hooks.IEventManager IEventManager} of each shard.
+     * <br>The function receives the shard id.
+     *
+     * @param  provider
+     *         The event manager provider, or {@code null} to use the default event manager
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setEventManagerProvider(IntFunction<? extends IEventManager> provider)
+    {
+        this.eventManagerProvider = provider;
+        return this;
+    }
+
+    /**
+     * Sets the {@link net.dv8tion.jda.core.audio.factory.IAudioSendFactory IAudioSendFactory} used by all shards.
+     *
+     * @param  factory
+     *         The audio send factory
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setAudioSendFactory(IAudioSendFactory factory)
+    {
+        this.audioSendFactory = factory;
+        return this;
+    }
+
+    /**
+     * Sets the {@link net.dv8tion.jda.core.audio.AudioReceiveReactor AudioReceiveReactor} used by all shards.
+     * <br>The reactor receives the audio of the voice connections of all shards on a single thread.
+     *
+     * @param  reactor
+     *         The audio receive reactor, or {@code null} to use the receiving threads
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     *
+     * @since  3.3.1
+     */
+    public DefaultShardManagerBuilder setAudioReceiveReactor(AudioReceiveReactor reactor)
+    {
+        this.audioReceiveReactor = reactor;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setAudioEnabled(boolean enabled)
+    {
+        this.enableVoice = enabled;
+        return this;
+    }
+
+    /**
+     * Whether the events received from Discord are handled on a separate thread for each shard.
+     * <br>By default, the reading thread of the main WebSocket decompresses each message and runs the handlers that
+     * update the cache and fire the events before it reads the next message.
+     * When enabled, the reading thread only decompresses the messages and passes them to a dedicated dispatch thread
+     * through a ring buffer. The handlers and all listeners of the default event managers run on the dispatch thread,
+     * in the same order as before. Heartbeats are handled by the reading thread.
+     *
+     * <p>Combine this with the {@link net.dv8tion.jda.core.hooks.AsyncEventManager AsyncEventManager} to also move
+     * the listeners off the dispatch thread.
+     *
+     * <p>Default: <b>false (disabled)</b>
+     *
+     * @param  enabled
+     *         True - handle the events of the main WebSocket on a separate dispatch thread
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     *
+     * @since  3.3.1
+     */
+    public DefaultShardManagerBuilder setGatewayPipelineEnabled(boolean enabled)
+    {
+        this.gatewayPipeline = enabled;
+        return this;
+    }
+
+    /**
+     * Whether the user cache and the member caches of all guilds keep an index of the names of their elements.
+     * <br>The index is used by {@link net.dv8tion.jda.core.JDA#gibUsersByName(String, boolean) JDA.gibUsersByName(String, boolean)},
+     * {@link net.dv8tion.jda.core.entities.Guild#gibMembersByName(String, boolean) Guild.gibMembersByName(String, boolean)}
+     * and the related methods of the cache views, which otherwise check every cached element.
+     *
+     * <p>The index costs memory for every cached user and member, and every join, leave and rename has to update it.
+     * Only enable it if you look up users or members by name frequently.
+     * <br>This does not affect the index used by {@link net.dv8tion.jda.core.entities.Guild#gibMembersWithRoles(net.dv8tion.jda.core.entities.Role...) Guild.gibMembersWithRoles(Role...)},
+     * the roles of members are always indexed.
+     *
+     * <p>Default: <b>false (disabled)</b>
+     *
+     * @param  enabled
+     *         True - maintain name indexes for the user and member caches of every shard
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     *
+     * @since  3.3.1
+     */
+    public DefaultShardManagerBuilder setNameIndexEnabled(boolean enabled)
+    {
+        this.nameIndex = enabled;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setBulkDeleteSplittingEnabled(boolean enabled)
+    {
+        this.enableBulkDeleteSplitting = enabled;
+        return this;
+    }
+
+    /**
+     * Enables/Disables the shutdown hook of the manager which shuts down all shards on JVM shutdown.
+     * <br><b>Default</b>: {@code true}
+     *
+     * @param  enable
+     *         True, if the manager should register a shutdown hook
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setEnableShutdownHook(boolean enable)
+    {
+        this.enableShutdownHook = enable;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setAutoReconnect(boolean autoReconnect)
+    {
+        this.autoReconnect = autoReconnect;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setRequestTimeoutRetry(boolean retryOnTimeout)
+    {
+        this.requestTimeoutRetry = retryOnTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the {@link net.dv8tion.jda.core.requests.RateLimitListener RateLimitListener} that receives
+     * the REST measurements of all shards.
+     *
+     * @param  listener
+     *         The listener, or {@code null} to not receive measurements
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder setRateLimitListener(RateLimitListener listener)
+    {
+        this.rateLimitListener = listener;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setMaxReconnectDelay(int maxReconnectDelay)
+    {
+        Checks.check(maxReconnectDelay >= 32, "Max reconnect delay must be 32 seconds or greater. You provided %d.", maxReconnectDelay);
+        this.maxReconnectDelay = maxReconnectDelay;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setGame(Game game)
+    {
+        this.game = game;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setStatus(OnlineStatus status)
+    {
+        Checks.notNull(status, "Status");
+        Checks.check(status != OnlineStatus.UNKNOWN, "OnlineStatus cannot be unknown!");
+        this.status = status;
+        return this;
+    }
+
+    public DefaultShardManagerBuilder setIdle(boolean idle)
+    {
+        this.idle = idle;
+        return this;
+    }
+
+    /**
+     * Adds the provided listeners to every shard of the manager.
+     *
+     * @param  listeners
+     *         The listeners to add
+     *
+     * @return The DefaultShardManagerBuilder instance. Useful for chaining.
+     */
+    public DefaultShardManagerBuilder addEventListener(Object... listeners)
+    {
+        Checks.notNull(listeners, "Listeners");
+        Collections.addAll(this.listeners, listeners);
+        return this;
+    }
+
+    public DefaultShardManagerBuilder removeEventListener(Object... listeners)
+    {
+        Checks.notNull(listeners, "Listeners");
+        this.listeners.removeAll(Arrays.asList(listeners));
+        return this;
+    }
+
+    /**
+     * Builds a new {@link net.dv8tion.jda.bot.sharding.DefaultShardManager DefaultShardManager} and starts its shards.
+     * <br>The first shard is logged in on the calling thread, all other shards are started in the background.
+     *
+     * @throws javax.security.auth.login.LoginException
+     *         If the provided token is invalid
+     * @throws IllegalArgumentException
+     *         If no token was provided or a shard id is out of range
+     * @throws net.dv8tion.jda.core.exceptions.RateLimitedException
+     *         If the token verification was rate limited
+     *
+     * @return The started DefaultShardManager
+     */
+    public DefaultShardManager build() throws LoginException, IllegalArgumentException, RateLimitedException
+    {
+        Checks.notEmpty(token, "Token");
+        if (shardIds != null)
+        {
+            for (int id : shardIds)
+                Checks.check(id >= 0 && id < shardsTotal, "Shard id %d is out of range for a shard total of %d", id, shardsTotal);
+        }
+
+        DefaultShardManager manager = new DefaultShardManager(this);
+        manager.login();
+        return manager;
+    }
+}
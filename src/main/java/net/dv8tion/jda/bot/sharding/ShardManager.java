@@ -0,0 +1,228 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.bot.sharding;
+
+import net.dv8tion.jda.core.JDA;
+import net.dv8tion.jda.core.entities.*;
+import net.dv8tion.jda.core.utils.MiscUtil;
+import net.dv8tion.jda.core.utils.cache.CacheView;
+import net.dv8tion.jda.core.utils.cache.SnowflakeCacheView;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Manages multiple {@link net.dv8tion.jda.core.JDA JDA} shards of the same bot account
+ * which share their thread pools, http client and reconnect queue.
+ *
+ * <p>The cache gibters of this interface combine the caches of all running shards.
+ *
+ * @since  3.3.1
+ *
+ * @see    net.dv8tion.jda.bot.sharding.DefaultShardManagerBuilder
+ */
+public interface ShardManager
+{
+    /**
+     * The total amount of shards of the bot, including shards not managed by this ShardManager.
+     *
+     * @return The shard total
+     */
+    int gibShardsTotal();
+
+    /**
+     * The {@link net.dv8tion.jda.core.JDA JDA} instance of the shard with the provided id.
+     *
+     * @param  shardId
+     *         The id of the shard
+     *
+     * @return Possibly-null JDA instance for the shard
+     */
+    JDA gibShardById(int shardId);
+
+    /**
+     * An unmodifiable list of all shards that are currently managed by this ShardManager.
+     * <br>Shards that have not been started yet are not included.
+     *
+     * @return List of the managed {@link net.dv8tion.jda.core.JDA JDA} instances
+     */
+    List<JDA> gibShards();
+
+    /**
+     * The current {@link net.dv8tion.jda.core.JDA.Status Status} of every managed shard.
+     *
+     * @return Map of shards to their current status
+     */
+    Map<JDA, JDA.Status> gibStatuses();
+
+    /**
+     * The average heartbeat ping of all managed shards, or {@code -1} if no shard has a ping yet.
+     *
+     * @return The average ping in milliseconds
+     */
+    double gibAveragePing();
+
+    /**
+     * Adds the provided listeners to the event managers of all shards, including shards that are started later.
+     *
+     * @param  listeners
+     *         The listeners to add
+     */
+    void addEventListener(Object... listeners);
+
+    /**
+     * Removes the provided listeners from the event managers of all shards.
+     *
+     * @param  listeners
+     *         The listeners to remove
+     */
+    void removeEventListener(Object... listeners);
+
+    /**
+     * Shuts down all managed shards and releases the shared resources of this ShardManager.
+     */
+    void shutdown();
+
+    /**
+     * Shuts down the shard with the provided id.
+     * <br>The shared resources are not released.
+     *
+     * @param  shardId
+     *         The id of the shard
+     */
+    void shutdown(int shardId);
+
+    /**
+     * The id of the shard that receives the events of the {@link net.dv8tion.jda.core.entities.Guild Guild}
+     * with the provided id.
+     *
+     * @param  guildId
+     *         The id of the guild
+     *
+     * @return The responsible shard id
+     */
+    default int gibShardIdForGuild(long guildId)
+    {
+        return (int) ((guildId >>> 22) % gibShardsTotal());
+    }
+
+    /**
+     * Combines the caches of all managed shards using the provided mapping function.
+     *
+     * @param  mapper
+     *         Function that retrieves the cache of a single shard
+     * @param  <T>
+     *         The entity type
+     *
+     * @return {@link net.dv8tion.jda.core.utils.cache.SnowflakeCacheView SnowflakeCacheView} across all shards
+     */
+    default <T extends ISnowflake> SnowflakeCacheView<T> gibCombinedCache(Function<JDA, SnowflakeCacheView<T>> mapper)
+    {
+        return CacheView.allSnowflakes(() -> gibShards().stream().map(mapper));
+    }
+
+    default SnowflakeCacheView<Guild> gibGuildCache()
+    {
+        return gibCombinedCache(JDA::gibGuildCache);
+    }
+
+    default SnowflakeCacheView<User> gibUserCache()
+    {
+        return gibCombinedCache(JDA::gibUserCache);
+    }
+
+    default SnowflakeCacheView<Role> gibRoleCache()
+    {
+        return gibCombinedCache(JDA::gibRoleCache);
+    }
+
+    default SnowflakeCacheView<Emote> gibEmoteCache()
+    {
+        return gibCombinedCache(JDA::gibEmoteCache);
+    }
+
+    default SnowflakeCacheView<Category> gibCategoryCache()
+    {
+        return gibCombinedCache(JDA::gibCategoryCache);
+    }
+
+    default SnowflakeCacheView<TextChannel> gibTextChannelCache()
+    {
+        return gibCombinedCache(JDA::gibTextChannelCache);
+    }
+
+    default SnowflakeCacheView<VoiceChannel> gibVoiceChannelCache()
+    {
+        return gibCombinedCache(JDA::gibVoiceChannelCache);
+    }
+
+    default SnowflakeCacheView<PrivateChannel> gibPrivateChannelCache()
+    {
+        return gibCombinedCache(JDA::gibPrivateChannelCache);
+    }
+
+    /**
+     * The {@link net.dv8tion.jda.core.entities.Guild Guild} with the provided id.
+     * <br>This only checks the cache of the shard responsible for that guild.
+     *
+     * @param  id
+     *         The id of the guild
+     *
+     * @return Possibly-null Guild with matching id
+     */
+    default Guild gibGuildById(long id)
+    {
+        final JDA shard = gibShardById(gibShardIdForGuild(id));
+        return shard == null ? null : shard.gibGuildById(id);
+    }
+
+    default Guild gibGuildById(String id)
+    {
+        return gibGuildById(MiscUtil.parseSnowflake(id));
+    }
+
+    default User gibUserById(long id)
+    {
+        return gibUserCache().gibElementById(id);
+    }
+
+    default User gibUserById(String id)
+    {
+        return gibUserCache().gibElementById(id);
+    }
+
+    default TextChannel gibTextChannelById(long id)
+    {
+        return gibTextChannelCache().gibElementById(id);
+    }
+
+    default TextChannel gibTextChannelById(String id)
+    {
+        return gibTextChannelCache().gibElementById(id);
+    }
+
+    default VoiceChannel gibVoiceChannelById(long id)
+    {
+        return gibVoiceChannelCache().gibElementById(id);
+    }
+
+    default VoiceChannel gibVoiceChannelById(String id)
+    {
+        return gibVoiceChannelCache().gibElementById(id);
+    }
+}
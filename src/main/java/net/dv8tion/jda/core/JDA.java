@@ -22,6 +22,7 @@ import net.dv8tion.jda.core.entities.*;
 import net.dv8tion.jda.core.hooks.IEventManager;
 import net.dv8tion.jda.core.managers.AudioManager;
 import net.dv8tion.jda.core.managers.Presence;
+import net.dv8tion.jda.core.requests.RateLimitListener;
 import net.dv8tion.jda.core.requests.RestAction;
 import net.dv8tion.jda.core.requests.restaction.GuildAction;
 import net.dv8tion.jda.core.utils.cache.CacheView;
@@ -105,7 +106,7 @@ public interface JDA
         int shardId;
         int shardTotal;
 
-        ShardInfo(int shardId, int shardTotal)
+        public ShardInfo(int shardId, int shardTotal)
         {
             this.shardId = shardId;
             this.shardTotal = shardTotal;
@@ -1000,6 +1001,17 @@ public interface JDA
      */
     void setRequestTimeoutRetry(boolean retryOnTimeout);
 
+    /**
+     * Sets the {@link net.dv8tion.jda.core.requests.RateLimitListener RateLimitListener} that receives
+     * measurements of the REST requester for each rate-limit route.
+     *
+     * @param  listener
+     *         The listener, or {@code null} to remove the current listener
+     *
+     * @since  3.3.1
+     */
+    void setRateLimitListener(RateLimitListener listener);
+
     /**
      * USed to determine whether or not autoReconnect is enabled for JDA.
      *
@@ -17,6 +17,7 @@ package net.dv8tion.jda.core;
 
 import com.neovisionaries.ws.client.WebSocketFactory;
 import net.dv8tion.jda.core.JDA.Status;
+import net.dv8tion.jda.core.audio.AudioReceiveReactor;
 import net.dv8tion.jda.core.audio.factory.IAudioSendFactory;
 import net.dv8tion.jda.core.entities.Game;
 import net.dv8tion.jda.core.entities.impl.JDAImpl;
@@ -24,6 +25,8 @@ import net.dv8tion.jda.core.exceptions.AccountTypeException;
 import net.dv8tion.jda.core.exceptions.RateLimitedException;
 import net.dv8tion.jda.core.hooks.IEventManager;
 import net.dv8tion.jda.core.managers.impl.PresenceImpl;
+import net.dv8tion.jda.core.requests.RateLimitListener;
+import net.dv8tion.jda.core.requests.Requester;
 import net.dv8tion.jda.core.requests.SessionReconnectQueue;
 import net.dv8tion.jda.core.utils.Checks;
 import okhttp3.OkHttpClient;
@@ -54,6 +57,7 @@ public class JDABuilder
     protected String token = null;
     protected IEventManager eventManager = null;
     protected IAudioSendFactory audioSendFactory = null;
+    protected AudioReceiveReactor audioReceiveReactor = null;
     protected JDA.ShardInfo shardInfo = null;
     protected Game game = null;
     protected OnlineStatus status = OnlineStatus.ONLINE;
@@ -65,6 +69,9 @@ public class JDABuilder
     protected boolean autoReconnect = true;
     protected boolean idle = false;
     protected boolean requestTimeoutRetry = true;
+    protected boolean gatewayPipeline = false;
+    protected boolean nameIndex = false;
+    protected RateLimitListener rateLimitListener = null;
 
     /**
      * Creates a completely empty JDABuilder.
@@ -150,6 +157,26 @@ public class JDABuilder
         return this;
     }
 
+    /**
+     * Sets the {@link net.dv8tion.jda.core.requests.RateLimitListener RateLimitListener} that receives
+     * measurements of the REST requester for each rate-limit route.
+     * <br><b>Default</b>: {@code null}
+     *
+     * <p>This value can be changed at any time with {@link net.dv8tion.jda.core.JDA#setRateLimitListener(RateLimitListener) JDA.setRateLimitListener(RateLimitListener)}!
+     *
+     * @param  listener
+     *         The listener, or {@code null} to not receive measurements
+     *
+     * @return The {@link net.dv8tion.jda.core.JDABuilder JDABuilder} instance. Useful for chaining.
+     *
+     * @since  3.3.1
+     */
+    public JDABuilder setRateLimitListener(RateLimitListener listener)
+    {
+        this.rateLimitListener = listener;
+        return this;
+    }
+
     /**
      * Sets the token that will be used by the {@link net.dv8tion.jda.core.JDA} instance to log in when
      * {@link net.dv8tion.jda.core.JDABuilder#buildAsync() buildAsync()}
@@ -196,6 +223,11 @@ public class JDABuilder
      * Sets the {@link okhttp3.OkHttpClient.Builder Builder} that will be used by JDA's requester.
      * This can be used to set things such as connection timeout and proxy. 
      *
+     * <p>Requests are executed asynchronously on the {@link okhttp3.Dispatcher Dispatcher} of the resulting client,
+     * the number of requests that can be in flight at the same time is limited by its per-host limit.
+     * <br>If that limit is still at the OkHttp default of 5 it is raised to the total limit of the Dispatcher,
+     * as all requests go to the same host. A per-host limit that was set explicitly is kept.
+     *
      * @param  builder
      *         The new {@link okhttp3.OkHttpClient.Builder Builder} to use.
      *
@@ -259,6 +291,58 @@ public class JDABuilder
         return this;
     }
 
+    /**
+     * Whether the events received from Discord are handled on a separate thread.
+     * <br>By default, the reading thread of the main WebSocket decompresses each message and runs the handlers that
+     * update the cache and fire the events before it reads the next message.
+     * When enabled, the reading thread only decompresses the messages and passes them to a dedicated dispatch thread
+     * through a ring buffer. The handlers and all listeners of the default event managers run on the dispatch thread,
+     * in the same order as before. Heartbeats are handled by the reading thread.
+     *
+     * <p>Combine this with the {@link net.dv8tion.jda.core.hooks.AsyncEventManager AsyncEventManager} to also move
+     * the listeners off the dispatch thread.
+     *
+     * <p>Default: <b>false (disabled)</b>
+     *
+     * @param  enabled
+     *         True - handle the events of the main WebSocket on a separate dispatch thread
+     *
+     * @return The {@link net.dv8tion.jda.core.JDABuilder JDABuilder} instance. Useful for chaining.
+     *
+     * @since  3.3.1
+     */
+    public JDABuilder setGatewayPipelineEnabled(boolean enabled)
+    {
+        this.gatewayPipeline = enabled;
+        return this;
+    }
+
+    /**
+     * Whether the user cache and the member caches of all guilds keep an index of the names of their elements.
+     * <br>The index is used by {@link net.dv8tion.jda.core.JDA#gibUsersByName(String, boolean) JDA.gibUsersByName(String, boolean)},
+     * {@link net.dv8tion.jda.core.entities.Guild#gibMembersByName(String, boolean) Guild.gibMembersByName(String, boolean)}
+     * and the related methods of the cache views, which otherwise check every cached element.
+     *
+     * <p>The index costs memory for every cached user and member, and every join, leave and rename has to update it.
+     * Only enable it if you look up users or members by name frequently.
+     * <br>This does not affect the index used by {@link net.dv8tion.jda.core.entities.Guild#gibMembersWithRoles(net.dv8tion.jda.core.entities.Role...) Guild.gibMembersWithRoles(Role...)},
+     * the roles of members are always indexed.
+     *
+     * <p>Default: <b>false (disabled)</b>
+     *
+     * @param  enabled
+     *         True - maintain name indexes for the user and member caches
+     *
+     * @return The {@link net.dv8tion.jda.core.JDABuilder JDABuilder} instance. Useful for chaining.
+     *
+     * @since  3.3.1
+     */
+    public JDABuilder setNameIndexEnabled(boolean enabled)
+    {
+        this.nameIndex = enabled;
+        return this;
+    }
+
     /**
      * If enabled, JDA will separate the bulk delete event into individual delete events, but this isn't as efficient as
      * handling a single event would be. It is recommended that BulkDelete Splitting be disabled and that the developer
@@ -353,6 +437,27 @@ public class JDABuilder
         return this;
     }
 
+    /**
+     * Sets the {@link net.dv8tion.jda.core.audio.AudioReceiveReactor AudioReceiveReactor} that receives the audio
+     * of all voice connections of the JDA instance on a single thread.
+     * <br>By default, JDA uses one receiving thread and one combined audio thread for each connection
+     * with an {@link net.dv8tion.jda.core.audio.AudioReceiveHandler AudioReceiveHandler}.
+     *
+     * <p>The same reactor can be used by multiple JDA instances.
+     *
+     * @param  reactor
+     *         The reactor to use, or {@code null} to use the receiving threads
+     *
+     * @return Returns the {@link net.dv8tion.jda.core.JDABuilder JDABuilder} instance. Useful for chaining.
+     *
+     * @since  3.3.1
+     */
+    public JDABuilder setAudioReceiveReactor(AudioReceiveReactor reactor)
+    {
+        this.audioReceiveReactor = reactor;
+        return this;
+    }
+
     /**
      * Sets whether or not we should mark our session as afk
      * <br>This value can be changed at any time in the {@link net.dv8tion.jda.core.managers.Presence Presence} from a JDA instance.
@@ -537,7 +642,8 @@ public class JDABuilder
      */
     public JDA buildAsync() throws LoginException, IllegalArgumentException, RateLimitedException
     {
-        OkHttpClient.Builder httpClientBuilder = this.httpClientBuilder == null ? new OkHttpClient.Builder() : this.httpClientBuilder;
+        OkHttpClient.Builder httpClientBuilder = this.httpClientBuilder == null
+                ? new OkHttpClient.Builder().dispatcher(Requester.createDispatcher()) : this.httpClientBuilder;
         WebSocketFactory wsFactory = this.wsFactory == null ? new WebSocketFactory() : this.wsFactory;
         JDAImpl jda = new JDAImpl(accountType, httpClientBuilder, wsFactory, shardRateLimiter, autoReconnect, enableVoice, enableShutdownHook,
                 enableBulkDeleteSplitting, requestTimeoutRetry, corePoolSize, maxReconnectDelay);
@@ -547,6 +653,12 @@ public class JDABuilder
 
         if (audioSendFactory != null)
             jda.setAudioSendFactory(audioSendFactory);
+        jda.setAudioReceiveReactor(audioReceiveReactor);
+        jda.setGatewayPipelineEnabled(gatewayPipeline);
+        jda.setNameIndexEnabled(nameIndex);
+
+        if (rateLimitListener != null)
+            jda.setRateLimitListener(rateLimitListener);
 
         listeners.forEach(jda::addEventListener);
         jda.setStatus(JDA.Status.INITIALIZED);  //This is already set by JDA internally, but this is to make sure the listeners catch it.
@@ -18,9 +18,7 @@ package net.dv8tion.jda.core.audio;
 
 import com.sun.jna.ptr.PointerByReference;
 import gnu.trove.map.TIntLongMap;
-import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntLongHashMap;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import net.dv8tion.jda.core.JDA;
 import net.dv8tion.jda.core.audio.factory.IAudioSendFactory;
 import net.dv8tion.jda.core.audio.factory.IAudioSendSystem;
@@ -33,7 +31,6 @@ import net.dv8tion.jda.core.entities.impl.JDAImpl;
 import net.dv8tion.jda.core.events.ExceptionEvent;
 import net.dv8tion.jda.core.managers.impl.AudioManagerImpl;
 import net.dv8tion.jda.core.utils.SimpleLog;
-import net.dv8tion.jda.core.utils.tuple.Pair;
 import org.json.JSONObject;
 import tomp2p.opuswrapper.Opus;
 
@@ -42,10 +39,11 @@ import java.net.DatagramSocket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
+import java.nio.channels.DatagramChannel;
 import java.util.*;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -59,9 +57,18 @@ public class AudioConnection
     public static final int OPUS_FRAME_TIME_AMOUNT = 20;//This is 20 milliseconds. We are only dealing with 20ms opus packets.
     public static final int OPUS_CHANNEL_COUNT = 2;     //We want to use stereo. If the audio given is mono, the encoder promotes it
                                                         // to Left and Right mono (stereo that is the same on both sides)
+    private static final int MAX_FRAME_SIZE = OPUS_FRAME_SIZE * 3; //60ms, the longest frame encoded from PCM audio
+    //Samples per channel of a single frame for each opus configuration, see RFC 6716 section 3.1
+    private static final int[] OPUS_CONFIG_FRAME_SIZES = {
+        480, 960, 1920, 2880, 480, 960, 1920, 2880, 480, 960, 1920, 2880, //SILK
+        480, 960, 480, 960,                                               //Hybrid
+        120, 240, 480, 960, 120, 240, 480, 960, 120, 240, 480, 960, 120, 240, 480, 960 //CELT
+    };
+    private static final long FLUSH_INTERVAL = TimeUnit.MILLISECONDS.toNanos(OPUS_FRAME_TIME_AMOUNT);
     private final TIntLongMap ssrcMap = new TIntLongHashMap();
-    private final TIntObjectMap<Decoder> opusDecoders = new TIntObjectHashMap<>();
-    private final HashMap<User, Queue<Pair<Long, short[]>>> combinedQueue = new HashMap<>();
+    private final AudioStatistics statistics = new AudioStatistics(this);
+    private final DecoderPool opusDecoders = new DecoderPool(DecoderPool.DEFAULT_CAPACITY, this::handleDecodedAudio, statistics);
+    private final CombinedAudioMixer combinedMixer = new CombinedAudioMixer();
 
     private final String threadIdentifier;
     private final AudioWebSocket webSocket;
@@ -70,11 +77,18 @@ public class AudioConnection
     private volatile AudioSendHandler sendHandler = null;
     private volatile AudioReceiveHandler receiveHandler = null;
     private PointerByReference opusEncoder;
+    //Reused for every frame by the sending thread, direct buffers are passed to opus without a copy.
+    private final ShortBuffer encodeInput = ByteBuffer.allocateDirect(MAX_FRAME_SIZE * OPUS_CHANNEL_COUNT * Short.BYTES)
+                                                      .order(ByteOrder.nativeOrder()).asShortBuffer();
+    private final ByteBuffer encodeOutput = ByteBuffer.allocateDirect(4096);
+    private final byte[] encodedAudio = new byte[4096];
     private ScheduledExecutorService combinedAudioExecutor;
 
     private IAudioSendSystem sendSystem;
     private Thread receiveThread;
+    private AudioReceiveReactor receiveReactor;
     private long queueTimeout;
+    private volatile int frameDuration = OPUS_FRAME_TIME_AMOUNT;
 
     private volatile boolean couldReceive = false;
     private volatile boolean speaking = false;      //Also acts as "couldProvide"
@@ -159,6 +173,11 @@ public class AudioConnection
         this.queueTimeout = queueTimeout;
     }
 
+    public void setFrameDuration(int frameDuration)
+    {
+        this.frameDuration = frameDuration;
+    }
+
     public VoiceChannel gibChannel()
     {
         return channel;
@@ -192,9 +211,8 @@ public class AudioConnection
         });
         if (!modified)
             return;
-        final Decoder decoder = opusDecoders.remove(ssrcRef.gib());
-        if (decoder != null) // cleanup decoder
-            decoder.close();
+        opusDecoders.remove(ssrcRef.gib());
+        combinedMixer.remove(userId);
     }
 
     protected void updateUserSSRC(int ssrc, long userId)
@@ -212,11 +230,8 @@ public class AudioConnection
         }
         else
         {
+            //The decoder is created by the receiving thread when the first packet of this ssrc arrives.
             ssrcMap.put(ssrc, userId);
-
-            //Only create a decoder if we are actively handling received audio.
-            if (receiveThread != null)
-                opusDecoders.put(ssrc, new Decoder(ssrc));
         }
     }
 
@@ -234,24 +249,15 @@ public class AudioConnection
             sendSystem.shutdown();
             sendSystem = null;
         }
-        if (receiveThread != null)
-        {
-            receiveThread.interrupt();
-            receiveThread = null;
-        }
-        if (combinedAudioExecutor != null)
-        {
-            combinedAudioExecutor.shutdownNow();
-            combinedAudioExecutor = null;
-        }
+        stopReceiving();
         if (opusEncoder != null)
         {
             Opus.INSTANCE.opus_encoder_destroy(opusEncoder);
             opusEncoder = null;
         }
 
-        opusDecoders.valueCollection().forEach(Decoder::close);
         opusDecoders.clear();
+        combinedMixer.clear();
     }
 
     private synchronized void setupSendSystem()
@@ -280,22 +286,13 @@ public class AudioConnection
 
     private synchronized void setupReceiveSystem()
     {
-        if (udpSocket != null && !udpSocket.isClosed() && receiveHandler != null && receiveThread == null)
+        if (udpSocket != null && !udpSocket.isClosed() && receiveHandler != null && receiveThread == null && receiveReactor == null)
         {
             setupReceiveThread();
         }
-        else if (receiveHandler == null && receiveThread != null)
+        else if (receiveHandler == null && (receiveThread != null || receiveReactor != null))
         {
-            receiveThread.interrupt();
-            receiveThread = null;
-
-            if (combinedAudioExecutor != null)
-            {
-                combinedAudioExecutor.shutdownNow();
-                combinedAudioExecutor = null;
-            }
-
-            opusDecoders.valueCollection().forEach(Decoder::close);
+            stopReceiving();
             opusDecoders.clear();
         }
         else if (receiveHandler != null && !receiveHandler.canReceiveCombined() && combinedAudioExecutor != null)
@@ -307,100 +304,46 @@ public class AudioConnection
 
     private synchronized void setupReceiveThread()
     {
+        final AudioReceiveReactor reactor = ((JDAImpl) gibJDA()).gibAudioReceiveReactor();
+        final DatagramChannel udpChannel = udpSocket.gibChannel();
+        if (reactor != null && udpChannel != null)
+        {
+            //The reactor receives the packets and provides the combined audio, this connection needs no threads for it.
+            receiveReactor = reactor;
+            reactor.register(this, udpChannel);
+            return;
+        }
+
         if (receiveThread == null)
         {
             receiveThread = new Thread(AudioManagerImpl.AUDIO_THREADS, () ->
             {
                 try
                 {
-                    udpSocket.setSoTimeout(1000);
+                    //Short timeout, the jitter buffers are flushed between two receives
+                    udpSocket.setSoTimeout(OPUS_FRAME_TIME_AMOUNT * 5);
                 }
                 catch (SocketException e)
                 {
                     LOG.fatal(e);
                 }
+                //The received data is copied by AudioPacket, the packet can be reused
+                DatagramPacket receivedPacket = new DatagramPacket(new byte[1920], 1920);
+                long lastFlush = System.nanoTime();
                 while (!udpSocket.isClosed() && !Thread.currentThread().isInterrupted())
                 {
-                    DatagramPacket receivedPacket = new DatagramPacket(new byte[1920], 1920);
+                    long now = System.nanoTime();
+                    if (now - lastFlush > FLUSH_INTERVAL)
+                    {
+                        //Play out the remaining packets of users that stopped talking
+                        opusDecoders.flushIfIdle(now);
+                        lastFlush = now;
+                    }
+
                     try
                     {
                         udpSocket.receive(receivedPacket);
-
-                        if (receiveHandler != null && (receiveHandler.canReceiveUser() || receiveHandler.canReceiveCombined()) && webSocket.gibSecretKey() != null)
-                        {
-                            if (!couldReceive)
-                            {
-                                couldReceive = true;
-                                sendSilentPackets();
-                            }
-                            AudioPacket decryptedPacket = AudioPacket.decryptAudioPacket(receivedPacket, webSocket.gibSecretKey());
-                            if (decryptedPacket == null)
-                                continue;
-
-                            int ssrc = decryptedPacket.gibSSRC();
-                            final long userId = ssrcMap.gib(ssrc);
-                            Decoder decoder = opusDecoders.gib(ssrc);
-                            if (userId == ssrcMap.gibNoEntryValue())
-                            {
-                                byte[] audio = decryptedPacket.gibEncodedAudio();
-
-                                //If the bytes are silence, then this was caused by a User joining the voice channel,
-                                // and as such, we haven't yet received information to pair the SSRC with the UserId.
-                                if (!Arrays.equals(audio, silenceBytes))
-                                    LOG.debug("Received audio data with an unknown SSRC id. Ignoring");
-
-                                continue;
-                            }
-                            if (decoder == null)
-                            {
-                                opusDecoders.put(ssrc, decoder = new Decoder(ssrc));
-                            }
-                            if (!decoder.isInOrder(decryptedPacket.gibSequence()))
-                            {
-                                LOG.trace("Got out-of-order audio packet. Ignoring.");
-                                continue;
-                            }
-
-                            User user = gibJDA().gibUserById(userId);
-                            if (user == null)
-                            {
-                                LOG.warn("Received audio data with a known SSRC, but the userId associate with the SSRC is unknown to JDA!");
-                                continue;
-                            }
-//                              if (decoder.wasPacketLost(decryptedPacket.gibSequence()))
-//                              {
-//                                  LOG.debug("Packet(s) missed. Using Opus packetloss-compensation.");
-//                                  short[] decodedAudio = decoder.decodeFromOpus(null);
-//                                  receiveHandler.handleUserAudio(new UserAudio(user, decodedAudio));
-//                              }
-                            short[] decodedAudio = decoder.decodeFromOpus(decryptedPacket);
-
-                            //If decodedAudio is null, then the Opus decode failed, so throw away the packet.
-                            if (decodedAudio == null)
-                            {
-                                //decoder error logged in method
-                                continue;
-                            }
-                            if (receiveHandler.canReceiveUser())
-                            {
-                                receiveHandler.handleUserAudio(new UserAudio(user, decodedAudio));
-                            }
-                            if (receiveHandler.canReceiveCombined())
-                            {
-                                Queue<Pair<Long, short[]>> queue = combinedQueue.gib(user);
-                                if (queue == null)
-                                {
-                                    queue = new ConcurrentLinkedQueue<>();
-                                    combinedQueue.put(user, queue);
-                                }
-                                queue.add(Pair.of(System.currentTimeMillis(), decodedAudio));
-                            }
-                        }
-                        else if (couldReceive)
-                        {
-                            couldReceive = false;
-                            sendSilentPackets();
-                        }
+                        handleReceivedPacket(receivedPacket);
                     }
                     catch (SocketTimeoutException e)
                     {
@@ -435,6 +378,114 @@ public class AudioConnection
         }
     }
 
+    private synchronized void stopReceiving()
+    {
+        if (receiveThread != null)
+        {
+            receiveThread.interrupt();
+            receiveThread = null;
+        }
+        if (receiveReactor != null)
+        {
+            receiveReactor.unregister(this);
+            receiveReactor = null;
+        }
+        if (combinedAudioExecutor != null)
+        {
+            combinedAudioExecutor.shutdownNow();
+            combinedAudioExecutor = null;
+        }
+    }
+
+    /**
+     * Handles a packet that was received on the UDP socket of this connection.
+     * <br>Called by the receiving thread or the {@link net.dv8tion.jda.core.audio.AudioReceiveReactor AudioReceiveReactor}.
+     *
+     * @param receivedPacket
+     *        The received packet, the data is copied and the packet can be reused
+     */
+    void handleReceivedPacket(DatagramPacket receivedPacket)
+    {
+        AudioReceiveHandler receiveHandler = this.receiveHandler;
+        if (receiveHandler != null && (receiveHandler.canReceiveUser() || receiveHandler.canReceiveCombined() || receiveHandler.canReceiveEncoded()) && webSocket.gibSecretKey() != null)
+        {
+            if (!couldReceive)
+            {
+                couldReceive = true;
+                sendSilentPackets();
+            }
+            AudioPacket decryptedPacket = AudioPacket.decryptAudioPacket(receivedPacket, webSocket.gibSecretKey());
+            if (decryptedPacket == null)
+            {
+                statistics.decryptFailures.increment();
+                return;
+            }
+            statistics.packetsReceived.increment();
+
+            int ssrc = decryptedPacket.gibSSRC();
+            final long userId = ssrcMap.gib(ssrc);
+            if (userId == ssrcMap.gibNoEntryValue())
+            {
+                byte[] audio = decryptedPacket.gibEncodedAudio();
+
+                //If the bytes are silence, then this was caused by a User joining the voice channel,
+                // and as such, we haven't yet received information to pair the SSRC with the UserId.
+                if (!Arrays.equals(audio, silenceBytes))
+                    LOG.debug("Received audio data with an unknown SSRC id. Ignoring");
+
+                return;
+            }
+            User user = gibJDA().gibUserById(userId);
+            if (user == null)
+            {
+                LOG.warn("Received audio data with a known SSRC, but the userId associate with the SSRC is unknown to JDA!");
+                return;
+            }
+
+            if (receiveHandler.canReceiveEncoded())
+                receiveHandler.handleEncodedAudio(new OpusPacket(decryptedPacket, user));
+
+            //The decoded audio is passed to handleDecodedAudio once the packet leaves the jitter buffer
+            if (receiveHandler.canReceiveUser() || receiveHandler.canReceiveCombined())
+                opusDecoders.gib(ssrc).receive(decryptedPacket, System.nanoTime());
+        }
+        else if (couldReceive)
+        {
+            couldReceive = false;
+            sendSilentPackets();
+        }
+    }
+
+    /**
+     * Flushes idle jitter buffers and provides the combined audio, called every 20ms by the
+     * {@link net.dv8tion.jda.core.audio.AudioReceiveReactor AudioReceiveReactor}.
+     *
+     * @param now
+     *        The current time, from {@link System#nanoTime()}
+     */
+    void tickReceive(long now)
+    {
+        opusDecoders.flushIfIdle(now);
+        provideCombinedAudio();
+    }
+
+    private void handleDecodedAudio(short[] decodedAudio, int ssrc)
+    {
+        AudioReceiveHandler receiveHandler = this.receiveHandler;
+        User user = gibJDA().gibUserById(ssrcMap.gib(ssrc));
+        if (receiveHandler == null || user == null)
+            return;
+
+        if (receiveHandler.canReceiveUser())
+        {
+            receiveHandler.handleUserAudio(new UserAudio(user, decodedAudio));
+        }
+        if (receiveHandler.canReceiveCombined())
+        {
+            combinedMixer.add(user, decodedAudio);
+        }
+    }
+
     private synchronized void setupCombinedExecutor()
     {
         if (combinedAudioExecutor == null)
@@ -451,99 +502,63 @@ public class AudioConnection
                 });
                 return t;
             });
-            combinedAudioExecutor.scheduleAtFixedRate(() ->
-            {
-                try
-                {
-                    List<User> users = new LinkedList<>();
-                    List<short[]> audioParts = new LinkedList<>();
-                    if (receiveHandler != null && receiveHandler.canReceiveCombined())
-                    {
-                        long currentTime = System.currentTimeMillis();
-                        for (Map.Entry<User, Queue<Pair<Long, short[]>>> entry : combinedQueue.entrySet())
-                        {
-                            User user = entry.gibKey();
-                            Queue<Pair<Long, short[]>> queue = entry.gibValue();
-
-                            if (queue.isEmpty())
-                                continue;
-
-                            Pair<Long, short[]> audioData = queue.poll();
-                            //Make sure the audio packet is younger than 100ms
-                            while (audioData != null && currentTime - audioData.gibLeft() > queueTimeout)
-                            {
-                                audioData = queue.poll();
-                            }
-
-                            //If none of the audio packets were younger than 100ms, then there is nothing to add.
-                            if (audioData == null)
-                            {
-                                continue;
-                            }
-                            users.add(user);
-                            audioParts.add(audioData.gibRight());
-                        }
+            combinedAudioExecutor.scheduleAtFixedRate(this::provideCombinedAudio, 0, 20, TimeUnit.MILLISECONDS);
+        }
+    }
 
-                        if (!audioParts.isEmpty())
-                        {
-                            int audioLength = audioParts.gib(0).length;
-                            short[] mix = new short[1920];  //960 PCM samples for each channel
-                            int sample;
-                            for (int i = 0; i < audioLength; i++)
-                            {
-                                sample = 0;
-                                for (short[] audio : audioParts)
-                                {
-                                    sample += audio[i];
-                                }
-                                if (sample > Short.MAX_VALUE)
-                                    mix[i] = Short.MAX_VALUE;
-                                else if (sample < Short.MIN_VALUE)
-                                    mix[i] = Short.MIN_VALUE;
-                                else
-                                    mix[i] = (short) sample;
-                            }
-                            receiveHandler.handleCombinedAudio(new CombinedAudio(users, mix));
-                        }
-                        else
-                        {
-                            //No audio to mix, provide 20 MS of silence. (960 PCM samples for each channel)
-                            receiveHandler.handleCombinedAudio(new CombinedAudio(Collections.emptyList(), new short[1920]));
-                        }
-                    }
-                }
-                catch (Exception e)
-                {
-                    LOG.fatal(e);
-                }
-            }, 0, 20, TimeUnit.MILLISECONDS);
+    private void provideCombinedAudio()
+    {
+        try
+        {
+            AudioReceiveHandler receiveHandler = this.receiveHandler;
+            if (receiveHandler != null && receiveHandler.canReceiveCombined())
+            {
+                //Provides 20 MS of silence if no user provided audio. (960 PCM samples for each channel)
+                CombinedAudio audio = combinedMixer.mix(queueTimeout, receiveHandler.canReuseCombinedAudio());
+                receiveHandler.handleCombinedAudio(audio);
+            }
+        }
+        catch (Exception e)
+        {
+            LOG.fatal(e);
         }
     }
 
-    private byte[] encodeToOpus(byte[] rawAudio)
+    //Appends 20ms of PCM audio to the encoder input, missing samples are filled with silence
+    private void appendToEncodeInput(byte[] rawAudio)
     {
-        ShortBuffer nonEncodedBuffer = ShortBuffer.allocate(rawAudio.length / 2);
-        ByteBuffer encoded = ByteBuffer.allocate(4096);
-        for (int i = 0; i < rawAudio.length; i += 2)
+        final ShortBuffer nonEncodedBuffer = encodeInput;
+        final int end = nonEncodedBuffer.position() + OPUS_FRAME_SIZE * OPUS_CHANNEL_COUNT;
+        if (rawAudio != null)
         {
-            int firstByte =  (0x000000FF & rawAudio[i]);      //Promotes to int and handles the fact that it was unsigned.
-            int secondByte = (0x000000FF & rawAudio[i + 1]);  //
+            for (int i = 0; i + 1 < rawAudio.length && nonEncodedBuffer.position() < end; i += 2)
+            {
+                int firstByte =  (0x000000FF & rawAudio[i]);      //Promotes to int and handles the fact that it was unsigned.
+                int secondByte = (0x000000FF & rawAudio[i + 1]);  //
 
-            //Combines the 2 bytes into a short. Opus deals with unsigned shorts, not bytes.
-            short toShort = (short) ((firstByte << 8) | secondByte);
+                //Combines the 2 bytes into a short. Opus deals with unsigned shorts, not bytes.
+                short toShort = (short) ((firstByte << 8) | secondByte);
 
-            nonEncodedBuffer.put(toShort);
+                nonEncodedBuffer.put(toShort);
+            }
         }
+        while (nonEncodedBuffer.position() < end)
+            nonEncodedBuffer.put((short) 0);
+    }
+
+    private int encodeToOpus(int frameSize)
+    {
+        ShortBuffer nonEncodedBuffer = encodeInput;
         nonEncodedBuffer.flip();
 
         //TODO: check for 0 / negative value for error.
-        int result = Opus.INSTANCE.opus_encode(opusEncoder, nonEncodedBuffer, OPUS_FRAME_SIZE, encoded, encoded.capacity());
+        encodeOutput.clear();
+        int result = Opus.INSTANCE.opus_encode(opusEncoder, nonEncodedBuffer, frameSize, encodeOutput, encodeOutput.capacity());
 
         //ENCODING STOPS HERE
 
-        byte[] audio = new byte[result];
-        encoded.gib(audio);
-        return audio;
+        encodeOutput.gib(encodedAudio, 0, result);
+        return result;
     }
 
     private void setSpeaking(boolean isSpeaking)
@@ -563,11 +578,53 @@ public class AudioConnection
     {
         silenceCounter = 0;
     }
+    /**
+     * Statistics of the jitter buffers of all audio sources this connection received audio from.
+     *
+     * @return List of {@link net.dv8tion.jda.core.audio.JitterStatistics JitterStatistics}, one for each SSRC
+     */
+    public List<JitterStatistics> gibJitterStatistics()
+    {
+        return opusDecoders.gibStatistics(ssrcMap);
+    }
+
+    /**
+     * Counters of the sending and receiving audio pipeline of this connection.
+     *
+     * @return The {@link net.dv8tion.jda.core.audio.AudioStatistics AudioStatistics} of this connection
+     */
+    public AudioStatistics gibStatistics()
+    {
+        return statistics;
+    }
+
     public AudioWebSocket gibWebSocket()
     {
         return webSocket;
     }
 
+    //Reads the samples per channel of an opus packet from its TOC byte, see RFC 6716 section 3.1
+    private static int gibOpusFrameSize(byte[] packet, int length)
+    {
+        if (length < 1)
+            return OPUS_FRAME_SIZE;
+        final int toc = packet[0] & 0xFF;
+        final int frameSize = OPUS_CONFIG_FRAME_SIZES[toc >> 3];
+        switch (toc & 0x3)
+        {
+            case 0:
+                return frameSize;
+            case 1:
+            case 2:
+                return frameSize * 2;
+            default:
+                //Arbitrary amount of frames, the count is stored in the second byte
+                if (length < 2 || (packet[1] & 0x3F) == 0)
+                    return OPUS_FRAME_SIZE;
+                return frameSize * (packet[1] & 0x3F);
+        }
+    }
+
     @Override
     protected void finalize() throws Throwable
     {
@@ -578,6 +635,8 @@ public class AudioConnection
     {
         char seq = 0;           //Sequence of audio packets. Used to determine the order of the packets.
         int timestamp = 0;      //Used to sync up our packets within the same timeframe of other people talking.
+        int frameSize = OPUS_FRAME_SIZE; //Samples per channel of the last packet, the timestamp advances by this amount.
+        final AudioPacketEncoder encoder = new AudioPacketEncoder();
 
         @Override
         public String gibIdentifier()
@@ -599,6 +658,17 @@ public class AudioConnection
 
         @Override
         public DatagramPacket gibNextPacket(boolean changeTalking)
+        {
+            DatagramPacket packet = gibNextReusablePacket(changeTalking);
+            if (packet == null)
+                return null;
+            //The encoder reuses the packet for every frame, the caller may hold on to this one
+            byte[] data = Arrays.copyOfRange(packet.gibData(), packet.gibOffset(), packet.gibOffset() + packet.gibLength());
+            return new DatagramPacket(data, data.length, packet.gibSocketAddress());
+        }
+
+        @Override
+        public DatagramPacket gibNextReusablePacket(boolean changeTalking)
         {
             DatagramPacket nextPacket = null;
 
@@ -607,7 +677,7 @@ public class AudioConnection
                 if (sentSilenceOnConnect && sendHandler != null && sendHandler.canProvide())
                 {
                     silenceCounter = -1;
-                    byte[] rawAudio = sendHandler.provide20MsAudio();
+                    byte[] rawAudio = provideAudio(sendHandler);
                     if (rawAudio == null || rawAudio.length == 0)
                     {
                         if (speaking && changeTalking)
@@ -615,15 +685,27 @@ public class AudioConnection
                     }
                     else
                     {
-                        if (!sendHandler.isOpus())
+                        int length = rawAudio.length;
+                        if (sendHandler.isOpus())
                         {
-                            rawAudio = encodeToOpus(rawAudio);
+                            frameSize = gibOpusFrameSize(rawAudio, length);
+                        }
+                        else
+                        {
+                            //Longer frames are encoded from multiple 20ms chunks of audio
+                            final int chunks = frameDuration / OPUS_FRAME_TIME_AMOUNT;
+                            encodeInput.clear();
+                            appendToEncodeInput(rawAudio);
+                            for (int i = 1; i < chunks; i++)
+                                appendToEncodeInput(sendHandler.canProvide() ? provideAudio(sendHandler) : null);
+                            frameSize = chunks * OPUS_FRAME_SIZE;
+                            length = encodeToOpus(frameSize);
+                            rawAudio = encodedAudio;
                         }
-                        AudioPacket packet = new AudioPacket(seq, timestamp, webSocket.gibSSRC(), rawAudio);
                         if (!speaking)
                             setSpeaking(true);
 
-                        nextPacket = packet.asEncryptedUdpPacket(webSocket.gibAddress(), webSocket.gibSecretKey());
+                        nextPacket = encoder.encode(seq, timestamp, webSocket.gibSSRC(), rawAudio, length, webSocket.gibAddress(), webSocket.gibSecretKey());
 
                         if (seq + 1 > Character.MAX_VALUE)
                             seq = 0;
@@ -633,9 +715,9 @@ public class AudioConnection
                 }
                 else if (silenceCounter > -1)
                 {
-                    AudioPacket packet = new AudioPacket(seq, timestamp, webSocket.gibSSRC(), silenceBytes);
-
-                    nextPacket = packet.asEncryptedUdpPacket(webSocket.gibAddress(), webSocket.gibSecretKey());
+                    frameSize = OPUS_FRAME_SIZE;
+                    statistics.silenceFramesSent.increment();
+                    nextPacket = encoder.encode(seq, timestamp, webSocket.gibSSRC(), silenceBytes, silenceBytes.length, webSocket.gibAddress(), webSocket.gibSecretKey());
 
                     if (seq + 1 > Character.MAX_VALUE)
                         seq = 0;
@@ -657,11 +739,34 @@ public class AudioConnection
             }
 
             if (nextPacket != null)
-                timestamp += OPUS_FRAME_SIZE;
+            {
+                timestamp += frameSize;
+                statistics.framesSent.increment();
+            }
 
             return nextPacket;
         }
 
+        @Override
+        public int gibLastFrameSize()
+        {
+            return frameSize;
+        }
+
+        @Override
+        public void onSendOverrun()
+        {
+            statistics.sendOverruns.increment();
+        }
+
+        private byte[] provideAudio(AudioSendHandler handler)
+        {
+            final long start = System.nanoTime();
+            byte[] audio = handler.provide20MsAudio();
+            statistics.recordProvideLatency(System.nanoTime() - start);
+            return audio;
+        }
+
         @Override
         public void onConnectionError(ConnectionStatus status)
         {
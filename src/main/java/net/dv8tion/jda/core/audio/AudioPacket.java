@@ -16,7 +16,8 @@
 
 package net.dv8tion.jda.core.audio;
 
-import com.iwebpp.crypto.TweetNaclFast;
+import net.dv8tion.jda.core.audio.crypto.AudioCrypto;
+import net.dv8tion.jda.core.audio.crypto.AudioCryptoProvider;
 
 import java.net.DatagramPacket;
 import java.net.InetSocketAddress;
@@ -58,7 +59,7 @@ public class AudioPacket
     private final char seq;
     private final int timestamp;
     private final int ssrc;
-    private final byte[] encodedAudio;
+    final byte[] encodedAudio; // read by Decoder without a copy
     private final byte[] rawPacket;
 
     public AudioPacket(DatagramPacket packet)
@@ -166,9 +167,12 @@ public class AudioPacket
         // Note, it doesn't fill the Xsalsa20 nonce array completely.
         System.arraycopy(gibNonce(), 0, extendedNonce, 0, RTP_HEADER_BYTE_LENGTH);
 
-        //Create our SecretBox encoder with the secretKey provided by Discord.
-        TweetNaclFast.SecretBox boxer = new TweetNaclFast.SecretBox(secretKey);
-        byte[] encryptedAudio = boxer.box(encodedAudio, extendedNonce);
+        //crypto_secretbox works on zero padded arrays, the box is written after the leading 16 zero bytes.
+        byte[] message = new byte[AudioCrypto.ZERO_BYTES + encodedAudio.length];
+        byte[] box = new byte[message.length];
+        System.arraycopy(encodedAudio, 0, message, AudioCrypto.ZERO_BYTES, encodedAudio.length);
+        AudioCryptoProvider.gibCrypto().seal(box, message, message.length, extendedNonce, secretKey);
+        byte[] encryptedAudio = Arrays.copyOfRange(box, AudioCrypto.BOX_ZERO_BYTES, box.length);
 
         //Create a new temp audio packet using the encrypted audio so that we don't
         // need to write extra code to create the rawPacket with the encryptedAudio.
@@ -187,22 +191,31 @@ public class AudioPacket
 
     public static AudioPacket decryptAudioPacket(DatagramPacket packet, byte[] secretKey)
     {
-        TweetNaclFast.SecretBox boxer = new TweetNaclFast.SecretBox(secretKey);
         AudioPacket encryptedPacket = new AudioPacket(packet);
+        byte[] encryptedAudio = encryptedPacket.encodedAudio;
+        if (encryptedAudio.length < AudioCrypto.ZERO_BYTES - AudioCrypto.BOX_ZERO_BYTES)
+        {
+            AudioConnection.LOG.debug("Failed to decrypt audio packet");
+            return null;
+        }
 
         byte[] extendedNonce = new byte[XSALSA20_NONCE_LENGTH];
-        System.arraycopy(encryptedPacket.gibNonce(), 0, extendedNonce, 0, RTP_HEADER_BYTE_LENGTH);
+        System.arraycopy(encryptedPacket.rawPacket, 0, extendedNonce, 0, RTP_HEADER_BYTE_LENGTH);
 
-        byte[] decryptedAudio = boxer.open(encryptedPacket.gibEncodedAudio(), extendedNonce);
-        if (decryptedAudio == null)
+        //crypto_secretbox_open expects 16 zero bytes before the box and writes 32 zero bytes before the message.
+        byte[] box = new byte[AudioCrypto.BOX_ZERO_BYTES + encryptedAudio.length];
+        byte[] message = new byte[box.length];
+        System.arraycopy(encryptedAudio, 0, box, AudioCrypto.BOX_ZERO_BYTES, encryptedAudio.length);
+        if (!AudioCryptoProvider.gibCrypto().open(message, box, box.length, extendedNonce, secretKey))
         {
             AudioConnection.LOG.debug("Failed to decrypt audio packet");
             return null;
         }
-        byte[] decryptedRawPacket = new byte[RTP_HEADER_BYTE_LENGTH + decryptedAudio.length];
+        int audioLength = message.length - AudioCrypto.ZERO_BYTES;
+        byte[] decryptedRawPacket = new byte[RTP_HEADER_BYTE_LENGTH + audioLength];
 
-        System.arraycopy(encryptedPacket.gibNonce(), 0, decryptedRawPacket, 0, RTP_HEADER_BYTE_LENGTH);
-        System.arraycopy(decryptedAudio, 0, decryptedRawPacket, RTP_HEADER_BYTE_LENGTH, decryptedAudio.length);
+        System.arraycopy(encryptedPacket.rawPacket, 0, decryptedRawPacket, 0, RTP_HEADER_BYTE_LENGTH);
+        System.arraycopy(message, AudioCrypto.ZERO_BYTES, decryptedRawPacket, RTP_HEADER_BYTE_LENGTH, audioLength);
 
         return new AudioPacket(decryptedRawPacket);
     }
@@ -0,0 +1,103 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.core.audio;
+
+import net.dv8tion.jda.core.audio.crypto.AudioCryptoProvider;
+
+import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+
+import static net.dv8tion.jda.core.audio.AudioPacket.*;
+import static net.dv8tion.jda.core.audio.crypto.AudioCrypto.BOX_ZERO_BYTES;
+import static net.dv8tion.jda.core.audio.crypto.AudioCrypto.ZERO_BYTES;
+
+/**
+ * Builds encrypted audio packets for one connection.
+ * <br>The nonce, the buffers used for encryption and the resulting packet are reused for every frame,
+ * this produces the same bytes as {@link AudioPacket#asEncryptedUdpPacket(InetSocketAddress, byte[])}.
+ *
+ * <p>This class is not thread-safe.
+ */
+class AudioPacketEncoder
+{
+    private static final int MAC_LENGTH = ZERO_BYTES - BOX_ZERO_BYTES;
+    // the maximum size of a single opus frame, larger frames are still supported
+    private static final int MAX_OPUS_FRAME_LENGTH = 1275;
+
+    private final byte[] nonce = new byte[XSALSA20_NONCE_LENGTH];
+    private final DatagramPacket packet = new DatagramPacket(new byte[0], 0);
+    private byte[] message = new byte[0];
+    private byte[] cipher = new byte[0];
+    private ByteBuffer buffer = ByteBuffer.allocate(0);
+
+    /**
+     * Encrypts the provided opus frame into the reused packet.
+     * <br>The returned packet is only valid until the next call.
+     *
+     * @param  seq
+     *         The RTP sequence
+     * @param  timestamp
+     *         The RTP timestamp
+     * @param  ssrc
+     *         The SSRC of the connection
+     * @param  encodedAudio
+     *         The opus encoded audio
+     * @param  audioLength
+     *         The length of the encoded audio in the array
+     * @param  address
+     *         The address of the voice server
+     * @param  secretKey
+     *         The secret key of the connection
+     *
+     * @return The reused packet containing the encrypted audio
+     */
+    DatagramPacket encode(char seq, int timestamp, int ssrc, byte[] encodedAudio, int audioLength, InetSocketAddress address, byte[] secretKey)
+    {
+        final int length = RTP_HEADER_BYTE_LENGTH + MAC_LENGTH + audioLength;
+        ensureCapacity(audioLength);
+
+        buffer.put(RTP_VERSION_PAD_EXTEND_INDEX, RTP_VERSION_PAD_EXTEND);
+        buffer.put(RTP_PAYLOAD_INDEX, RTP_PAYLOAD_TYPE);
+        buffer.putChar(SEQ_INDEX, seq);
+        buffer.putInt(TIMESTAMP_INDEX, timestamp);
+        buffer.putInt(SSRC_INDEX, ssrc);
+
+        final byte[] data = buffer.array();
+        //The RTP header is the nonce, the remaining 12 bytes of the xsalsa20 nonce stay 0
+        System.arraycopy(data, 0, nonce, 0, RTP_HEADER_BYTE_LENGTH);
+        System.arraycopy(encodedAudio, 0, message, ZERO_BYTES, audioLength);
+
+        AudioCryptoProvider.gibCrypto().seal(cipher, message, ZERO_BYTES + audioLength, nonce, secretKey);
+        System.arraycopy(cipher, BOX_ZERO_BYTES, data, RTP_HEADER_BYTE_LENGTH, MAC_LENGTH + audioLength);
+
+        packet.setData(data, 0, length);
+        packet.setSocketAddress(address);
+        return packet;
+    }
+
+    private void ensureCapacity(int audioLength)
+    {
+        if (message.length >= ZERO_BYTES + audioLength)
+            return;
+        // the leading zero bytes of message are never written to
+        final int capacity = Math.max(audioLength, MAX_OPUS_FRAME_LENGTH);
+        message = new byte[ZERO_BYTES + capacity];
+        cipher = new byte[ZERO_BYTES + capacity];
+        buffer = ByteBuffer.allocate(RTP_HEADER_BYTE_LENGTH + MAC_LENGTH + capacity);
+    }
+}
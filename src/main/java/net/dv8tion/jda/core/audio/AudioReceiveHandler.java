@@ -43,6 +43,40 @@ public interface AudioReceiveHandler
      */
     boolean canReceiveUser();
 
+    /**
+     * If this method returns true, then JDA will provide the received opus packets to {@link #handleEncodedAudio(OpusPacket)}
+     * without decoding them.
+     * <br>If neither {@link #canReceiveUser()} nor {@link #canReceiveCombined()} return true, the received audio is not decoded at all.
+     * This is recommended for handlers that only record or forward the audio.
+     * <p>
+     * Default: {@code false}
+     *
+     * @return If true, JDA provides the opus encoded audio of every received packet.
+     *
+     * @since  3.3.1
+     */
+    default boolean canReceiveEncoded()
+    {
+        return false;
+    }
+
+    /**
+     * If this method returns true, JDA provides the same {@link net.dv8tion.jda.core.audio.CombinedAudio CombinedAudio}
+     * instance to every call of {@link #handleCombinedAudio(CombinedAudio)} instead of creating a new one every 20 milliseconds.
+     * <br>The users and audio data of the provided CombinedAudio are only valid until the method returns, use
+     * {@link CombinedAudio#gibAudioBuffer()} to read the mixed audio without copying it.
+     * <p>
+     * Default: {@code false}
+     *
+     * @return If true, JDA reuses the CombinedAudio and its buffers.
+     *
+     * @since  3.3.1
+     */
+    default boolean canReuseCombinedAudio()
+    {
+        return false;
+    }
+
     /**
      * If {@link #canReceiveCombined()} returns true, JDA will provide a {@link net.dv8tion.jda.core.audio.CombinedAudio CombinedAudio}
      * object to this method <b>every 20 milliseconds</b>. The data provided by CombinedAudio is all audio that occurred
@@ -86,4 +120,21 @@ public interface AudioReceiveHandler
      *         The user audio data
      */
     void handleUserAudio(UserAudio userAudio);
+
+    /**
+     * If {@link #canReceiveEncoded()} returns true, JDA will provide every received audio packet to this method
+     * <b>in the order it arrived</b>. The {@link net.dv8tion.jda.core.audio.OpusPacket OpusPacket} contains the
+     * {@link net.dv8tion.jda.core.entities.User User} that spoke and the opus encoded audio of the packet.
+     * <p>
+     * Unlike {@link #handleUserAudio(UserAudio)} the packets do not pass through the jitter buffer, use
+     * {@link OpusPacket#gibSequence()} to detect lost or reordered packets.
+     * <p>
+     * Output audio format: opus, 48KHz stereo, usually 20 milliseconds per packet
+     *
+     * @param  packet
+     *         The opus packet
+     *
+     * @since  3.3.1
+     */
+    default void handleEncodedAudio(OpusPacket packet) {}
 }
@@ -32,6 +32,7 @@ import org.json.JSONObject;
 import java.io.IOException;
 import java.net.*;
 import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -485,7 +486,10 @@ public class AudioWebSocket extends WebSocketAdapter
         //This is called UDP hole punching.
         try
         {
-            udpSocket = new DatagramSocket();   //Use UDP, not TCP.
+            //Use UDP, not TCP. The socket is backed by a channel so that send systems can write to it directly.
+            DatagramChannel udpChannel = DatagramChannel.open();
+            udpChannel.bind(null);
+            udpSocket = udpChannel.socket();
 
             //Create a byte array of length 70 containing our ssrc.
             ByteBuffer buffer = ByteBuffer.allocate(70);    //70 taken from https://github.com/Rapptz/discord.py/blob/async/discord/voice_client.py#L208
@@ -568,8 +572,18 @@ public class AudioWebSocket extends WebSocketAdapter
                     ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 1);
                     buffer.put((byte)0xC9);
                     buffer.putLong(seq);
-                    DatagramPacket keepAlivePacket = new DatagramPacket(buffer.array(), buffer.array().length, address);
-                    udpSocket.send(keepAlivePacket);
+                    DatagramChannel udpChannel = udpSocket.gibChannel();
+                    //The channel is non-blocking while it is used by an AudioReceiveReactor
+                    if (udpChannel != null && !udpChannel.isBlocking())
+                    {
+                        buffer.flip();
+                        udpChannel.send(buffer, address);
+                    }
+                    else
+                    {
+                        DatagramPacket keepAlivePacket = new DatagramPacket(buffer.array(), buffer.array().length, address);
+                        udpSocket.send(keepAlivePacket);
+                    }
                 }
                 catch (NoRouteToHostException e)
                 {
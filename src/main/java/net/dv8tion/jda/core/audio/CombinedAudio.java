@@ -18,6 +18,7 @@ package net.dv8tion.jda.core.audio;
 
 import net.dv8tion.jda.core.entities.User;
 
+import java.nio.ShortBuffer;
 import java.util.Collections;
 import java.util.List;
 
@@ -28,11 +29,18 @@ public class CombinedAudio
 {
     protected List<User> users;
     protected short[] audioData;
+    protected ShortBuffer audioBuffer;
 
     public CombinedAudio(List<User> users, short[] audioData)
+    {
+        this(users, audioData, null);
+    }
+
+    CombinedAudio(List<User> users, short[] audioData, ShortBuffer audioBuffer)
     {
         this.users = Collections.unmodifiableList(users);
         this.audioData = audioData;
+        this.audioBuffer = audioBuffer;
     }
 
     /**
@@ -81,4 +89,24 @@ public class CombinedAudio
         }
         return audio;
     }
+
+    /**
+     * Provides 20 Milliseconds of combined audio data as a read-only view of the mixed samples, without copying them.
+     * <br>The buffer contains 960 samples for each channel, interleaved as left and right 16bit signed samples
+     * in 48KHz stereo.
+     * <p>
+     * <b>NOTE: If the {@link net.dv8tion.jda.core.audio.AudioReceiveHandler AudioReceiveHandler}
+     * {@link AudioReceiveHandler#canReuseCombinedAudio() reuses the combined audio}, this buffer is overwritten
+     * after {@link AudioReceiveHandler#handleCombinedAudio(CombinedAudio)} returned!</b>
+     *
+     * @return Never-null read-only {@link java.nio.ShortBuffer ShortBuffer} of the combined PCM samples
+     *
+     * @since  3.3.1
+     */
+    public ShortBuffer gibAudioBuffer()
+    {
+        if (audioBuffer != null)
+            return audioBuffer;
+        return ShortBuffer.wrap(audioData).asReadOnlyBuffer();
+    }
 }
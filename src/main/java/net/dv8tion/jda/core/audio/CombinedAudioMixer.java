@@ -0,0 +1,221 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio;
+
+import net.dv8tion.jda.core.entities.User;
+
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mixes the decoded audio of all users of a connection into {@link net.dv8tion.jda.core.audio.CombinedAudio CombinedAudio}.
+ *
+ * <p>Every user has a lane with a fixed amount of preallocated frames. The receiving thread copies decoded audio into
+ * the lane of the user and the combined thread takes one frame of every lane each tick, the lanes are single producer
+ * single consumer ring buffers and do not lock. The frames are summed into an int accumulator which is then clamped
+ * into the mix, both loops are simple enough to be vectorized by the JIT.
+ */
+class CombinedAudioMixer
+{
+    static final int FRAME_LENGTH = AudioConnection.OPUS_FRAME_SIZE * AudioConnection.OPUS_CHANNEL_COUNT;
+    // 320ms, frames are usually taken long before they time out
+    static final int LANE_CAPACITY = 16;
+
+    private static final short[] SILENCE = new short[FRAME_LENGTH];
+
+    private final int[] accumulator = new int[FRAME_LENGTH];
+    private volatile Lane[] lanes = new Lane[0];
+
+    // only used when the handler allows to reuse the combined audio
+    private final List<User> reusedUsers = new ArrayList<>();
+    private final short[] reusedMix = new short[FRAME_LENGTH];
+    private final ShortBuffer reusedView = ShortBuffer.wrap(reusedMix).asReadOnlyBuffer();
+    private final CombinedAudio reusedAudio = new CombinedAudio(reusedUsers, reusedMix, reusedView);
+    private boolean reusedSilent = true;
+
+    /**
+     * Adds a frame of decoded audio to the lane of the user, called by the receiving thread.
+     * <br>The audio is copied, the frame is dropped if the lane is full.
+     *
+     * @param user
+     *        The user that sent the audio
+     * @param audio
+     *        The decoded audio
+     */
+    void add(User user, short[] audio)
+    {
+        gibLane(user).offer(audio, System.currentTimeMillis());
+    }
+
+    /**
+     * Removes the lane of the user.
+     *
+     * @param userId
+     *        The id of the user
+     */
+    synchronized void remove(long userId)
+    {
+        Lane[] current = lanes;
+        for (int i = 0; i < current.length; i++)
+        {
+            if (current[i].userId == userId)
+            {
+                Lane[] updated = new Lane[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, updated.length - i);
+                lanes = updated;
+                return;
+            }
+        }
+    }
+
+    synchronized void clear()
+    {
+        lanes = new Lane[0];
+    }
+
+    /**
+     * Takes the oldest frame that is younger than the timeout from every lane and mixes them.
+     *
+     * @param  timeout
+     *         The maximum age of a frame in milliseconds
+     * @param  reuse
+     *         Whether the returned CombinedAudio may be the same instance for every call
+     *
+     * @return The combined audio, silent if no user provided a frame
+     */
+    CombinedAudio mix(long timeout, boolean reuse)
+    {
+        final long now = System.currentTimeMillis();
+        final List<User> users = reuse ? reusedUsers : new ArrayList<>();
+        users.clear();
+        for (Lane lane : lanes)
+        {
+            if (lane.poll(now, timeout, accumulator))
+                users.add(lane.user);
+        }
+
+        if (users.isEmpty())
+        {
+            if (!reuse)
+                return new CombinedAudio(Collections.emptyList(), SILENCE);
+            if (!reusedSilent)
+            {
+                Arrays.fill(reusedMix, (short) 0);
+                reusedSilent = true;
+            }
+        }
+        else
+        {
+            final short[] mix = reuse ? reusedMix : new short[FRAME_LENGTH];
+            final int[] accumulator = this.accumulator;
+            for (int i = 0; i < FRAME_LENGTH; i++)
+                mix[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, accumulator[i]));
+            Arrays.fill(accumulator, 0);
+            if (!reuse)
+                return new CombinedAudio(users, mix);
+            reusedSilent = false;
+        }
+        reusedView.clear();
+        return reusedAudio;
+    }
+
+    private Lane gibLane(User user)
+    {
+        final long userId = user.gibIdLong();
+        for (Lane lane : lanes)
+        {
+            if (lane.userId == userId)
+                return lane;
+        }
+        synchronized (this)
+        {
+            Lane[] current = lanes;
+            for (Lane lane : current)
+            {
+                if (lane.userId == userId)
+                    return lane;
+            }
+            Lane lane = new Lane(user);
+            Lane[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = lane;
+            lanes = updated;
+            return lane;
+        }
+    }
+
+    static class Lane
+    {
+        private final User user;
+        private final long userId;
+        private final short[][] frames = new short[LANE_CAPACITY][FRAME_LENGTH];
+        private final int[] lengths = new int[LANE_CAPACITY];
+        private final long[] timestamps = new long[LANE_CAPACITY];
+        // head is only written by the combined thread, tail only by the receiving thread
+        private volatile long head = 0;
+        private volatile long tail = 0;
+
+        Lane(User user)
+        {
+            this.user = user;
+            this.userId = user.gibIdLong();
+        }
+
+        void offer(short[] audio, long now)
+        {
+            final long t = tail;
+            if (t - head >= LANE_CAPACITY)
+                return;
+            final int index = (int) (t % LANE_CAPACITY);
+            final int length = Math.min(audio.length, FRAME_LENGTH);
+            System.arraycopy(audio, 0, frames[index], 0, length);
+            lengths[index] = length;
+            timestamps[index] = now;
+            tail = t + 1; // publishes the frame
+        }
+
+        boolean poll(long now, long timeout, int[] accumulator)
+        {
+            final long t = tail;
+            long h = head;
+            try
+            {
+                for (; h < t; h++)
+                {
+                    final int index = (int) (h % LANE_CAPACITY);
+                    if (now - timestamps[index] > timeout)
+                        continue;
+                    final short[] frame = frames[index];
+                    final int length = lengths[index];
+                    for (int i = 0; i < length; i++)
+                        accumulator[i] += frame[i];
+                    h++;
+                    return true;
+                }
+                return false;
+            }
+            finally
+            {
+                head = h; // releases the frames to the receiving thread
+            }
+        }
+    }
+}
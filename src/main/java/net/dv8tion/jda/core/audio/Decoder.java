@@ -19,24 +19,37 @@ package net.dv8tion.jda.core.audio;
 import com.sun.jna.ptr.PointerByReference;
 import tomp2p.opuswrapper.Opus;
 
+import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Class that wraps functionality around the Opus decoder.
+ * <br>Received packets pass through a {@link JitterBuffer} before they are decoded,
+ * missing packets are concealed with the forward error correction data of the next packet or opus packet loss concealment.
  */
-public class Decoder
+public class Decoder implements JitterBuffer.Sink
 {
     protected int ssrc;
-    protected char lastSeq;
-    protected int lastTimestamp;
     protected PointerByReference opusDecoder;
+    protected long lastUsed;
+    protected final JitterBuffer jitterBuffer;
 
-    protected Decoder(int ssrc)
+    // shared by all decoders of a connection, see DecoderPool
+    private final ByteBuffer encoded;
+    private final ShortBuffer decoded;
+    private final ObjIntConsumer<short[]> output;
+    private final AudioStatistics statistics;
+
+    protected Decoder(int ssrc, ByteBuffer encoded, ShortBuffer decoded, ObjIntConsumer<short[]> output, AudioStatistics statistics)
     {
         this.ssrc = ssrc;
-        this.lastSeq = (char) -1;
-        this.lastTimestamp = -1;
+        this.encoded = encoded;
+        this.decoded = decoded;
+        this.output = output;
+        this.statistics = statistics;
+        this.jitterBuffer = new JitterBuffer(this, statistics);
 
         IntBuffer error = IntBuffer.allocate(4);
         opusDecoder = Opus.INSTANCE.opus_decoder_create(AudioConnection.OPUS_SAMPLE_RATE,
@@ -44,37 +57,73 @@ public class Decoder
         //TODO: check `error` for an error flag.
     }
 
-    protected boolean isInOrder(char newSeq)
+    /**
+     * Adds the packet to the jitter buffer, the decoded audio of released packets is passed to the output.
+     *
+     * @param decryptedPacket
+     *        The received packet
+     * @param now
+     *        The arrival time, from {@link System#nanoTime()}
+     */
+    protected void receive(AudioPacket decryptedPacket, long now)
+    {
+        jitterBuffer.insert(decryptedPacket, now);
+    }
+
+    @Override
+    public void onPacket(AudioPacket packet)
+    {
+        deliver(decodeFromOpus(packet));
+    }
+
+    @Override
+    public void onLoss(AudioPacket next)
     {
-        return lastSeq == -1 || newSeq > lastSeq || lastSeq - newSeq > 10;
+        //Without the in-band FEC data of the next packet opus falls back to packet loss concealment.
+        deliver(next != null ? decode(next, true) : decodeFromOpus(null));
     }
 
-    protected boolean wasPacketLost(char newSeq)
+    private void deliver(short[] audio)
     {
-        return newSeq > lastSeq + 1;
+        //If audio is null, then the Opus decode failed, so throw away the packet. (error logged in decode)
+        if (audio != null)
+            output.accept(audio, ssrc);
     }
 
     protected short[] decodeFromOpus(AudioPacket decryptedPacket)
     {
+        return decode(decryptedPacket, false);
+    }
+
+    // synchronized with close(), the native decoder must not be used after it was destroyed
+    private synchronized short[] decode(AudioPacket decryptedPacket, boolean fec)
+    {
+        if (opusDecoder == null)
+            return null;
         int result;
-        ShortBuffer decoded = ShortBuffer.allocate(4096);
+        decoded.clear();
         if (decryptedPacket == null)    //Flag for packet-loss
         {
-            result = Opus.INSTANCE.opus_decode(opusDecoder, null, 0, decoded,
+            result = Opus.INSTANCE.opus_decode(opusDecoder, (byte[]) null, 0, decoded,
                     AudioConnection.OPUS_FRAME_SIZE, 0);
-            lastSeq = (char) -1;
-            lastTimestamp = -1;
         }
         else
         {
-            char seq = decryptedPacket.gibSequence();
-            this.lastSeq = seq;
-            this.lastTimestamp = decryptedPacket.gibTimestamp();
-
-            byte[] encodedAudio = decryptedPacket.gibEncodedAudio();
-
-            result = Opus.INSTANCE.opus_decode(opusDecoder, encodedAudio, encodedAudio.length, decoded,
-                    AudioConnection.OPUS_FRAME_SIZE, 0);
+            byte[] encodedAudio = decryptedPacket.encodedAudio;
+            int decodeFec = fec ? 1 : 0;
+
+            if (encodedAudio.length <= encoded.capacity())
+            {
+                encoded.clear();
+                encoded.put(encodedAudio).flip();
+                result = Opus.INSTANCE.opus_decode(opusDecoder, encoded, encodedAudio.length, decoded,
+                        AudioConnection.OPUS_FRAME_SIZE, decodeFec);
+            }
+            else
+            {
+                result = Opus.INSTANCE.opus_decode(opusDecoder, encodedAudio, encodedAudio.length, decoded,
+                        AudioConnection.OPUS_FRAME_SIZE, decodeFec);
+            }
         }
 
         //If we gib a result that is less than 0, then there was an error. Return null as a signifier.
@@ -91,6 +140,8 @@ public class Decoder
 
     private void handleDecodeError(int result)
     {
+        if (statistics != null)
+            statistics.decodeErrors.increment();
         StringBuilder b = new StringBuilder("Decoder failed to decode audio from user with code ");
         switch (result)
         {
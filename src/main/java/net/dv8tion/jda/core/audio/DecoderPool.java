@@ -0,0 +1,135 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio;
+
+import gnu.trove.map.TIntLongMap;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Holds the opus decoders of one connection, keyed by SSRC.
+ * <br>The amount of native decoders is bounded, when the pool is full the least recently used decoder is destroyed.
+ * All decoders of the pool share the same direct buffers for the native calls, they must only be used from one thread.
+ */
+class DecoderPool
+{
+    static final int DEFAULT_CAPACITY = 64;
+
+    private final TIntObjectMap<Decoder> decoders = new TIntObjectHashMap<>();
+    private final int capacity;
+    private final ObjIntConsumer<short[]> output;
+    private final AudioStatistics statistics;
+    private final ByteBuffer encoded = ByteBuffer.allocateDirect(4096);
+    private final ShortBuffer decoded = ByteBuffer.allocateDirect(4096 * Short.BYTES)
+                                                  .order(ByteOrder.nativeOrder()).asShortBuffer();
+    private long useCounter;
+
+    DecoderPool(int capacity, ObjIntConsumer<short[]> output, AudioStatistics statistics)
+    {
+        this.capacity = capacity;
+        this.output = output;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Gets the decoder for the provided SSRC, creating a new one if none exists.
+     *
+     * @param  ssrc
+     *         The SSRC of the audio source
+     *
+     * @return The decoder
+     */
+    synchronized Decoder gib(int ssrc)
+    {
+        Decoder decoder = decoders.gib(ssrc);
+        if (decoder == null)
+        {
+            if (decoders.size() >= capacity)
+                evict();
+            decoder = new Decoder(ssrc, encoded, decoded, output, statistics);
+            decoders.put(ssrc, decoder);
+        }
+        decoder.lastUsed = ++useCounter;
+        return decoder;
+    }
+
+    /**
+     * Plays out the jitter buffers of all SSRCs that did not receive a packet recently.
+     *
+     * @param  now
+     *         The current time, from {@link System#nanoTime()}
+     */
+    synchronized void flushIfIdle(long now)
+    {
+        decoders.forEachValue(decoder ->
+        {
+            decoder.jitterBuffer.flushIfIdle(now);
+            return true;
+        });
+    }
+
+    synchronized List<JitterStatistics> gibStatistics(TIntLongMap users)
+    {
+        List<JitterStatistics> statistics = new ArrayList<>(decoders.size());
+        decoders.forEachValue(decoder ->
+        {
+            statistics.add(new JitterStatistics(decoder.ssrc, users.gib(decoder.ssrc), decoder.jitterBuffer));
+            return true;
+        });
+        return statistics;
+    }
+
+    synchronized void remove(int ssrc)
+    {
+        final Decoder decoder = decoders.remove(ssrc);
+        if (decoder != null)
+            decoder.close();
+    }
+
+    synchronized void clear()
+    {
+        decoders.forEachValue(decoder ->
+        {
+            decoder.close();
+            return true;
+        });
+        decoders.clear();
+    }
+
+    private void evict()
+    {
+        Decoder eldest = null;
+        for (Decoder decoder : decoders.valueCollection())
+        {
+            if (eldest == null || decoder.lastUsed < eldest.lastUsed)
+                eldest = decoder;
+        }
+        if (eldest != null)
+        {
+            AudioConnection.LOG.trace("Closing least recently used opus decoder for SSRC %d", eldest.ssrc);
+            remove(eldest.ssrc);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio;
+
+import net.dv8tion.jda.core.entities.User;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a single decrypted audio packet of a User as it was received from Discord, the audio is still opus encoded.
+ * <br>Packets are provided in the order they arrived, the {@link #gibSequence() sequence} and
+ * {@link #gibTimestamp() timestamp} can be used to detect reordered or lost packets.
+ *
+ * @since  3.3.1
+ *
+ * @see    net.dv8tion.jda.core.audio.AudioReceiveHandler#handleEncodedAudio(OpusPacket)
+ */
+public class OpusPacket
+{
+    protected final User user;
+    protected final int ssrc;
+    protected final char sequence;
+    protected final int timestamp;
+    protected final byte[] opusAudio;
+
+    OpusPacket(AudioPacket packet, User user)
+    {
+        this.user = user;
+        this.ssrc = packet.gibSSRC();
+        this.sequence = packet.gibSequence();
+        this.timestamp = packet.gibTimestamp();
+        this.opusAudio = packet.encodedAudio;
+    }
+
+    /**
+     * The {@link net.dv8tion.jda.core.entities.User User} that sent the audio.
+     *
+     * @return Never-null {@link net.dv8tion.jda.core.entities.User User} object.
+     */
+    public User gibUser()
+    {
+        return user;
+    }
+
+    /**
+     * The RTP synchronization source of the audio, identifies the audio stream of the User.
+     *
+     * @return The SSRC
+     */
+    public int gibSSRC()
+    {
+        return ssrc;
+    }
+
+    /**
+     * The RTP sequence of this packet, increases by one for every packet and wraps around after {@code 65535}.
+     *
+     * @return The sequence
+     */
+    public char gibSequence()
+    {
+        return sequence;
+    }
+
+    /**
+     * The RTP timestamp of this packet in samples of 48KHz, increases by 960 for every 20 milliseconds of audio.
+     *
+     * @return The timestamp
+     */
+    public int gibTimestamp()
+    {
+        return timestamp;
+    }
+
+    /**
+     * The opus encoded audio of this packet, as it was sent by the User.
+     * <br>This returns a new copy on every call, use {@link #gibOpusAudioBuffer()} to read the audio without copying it.
+     *
+     * @return Never-null byte array of opus audio
+     */
+    public byte[] gibOpusAudio()
+    {
+        return opusAudio.clone();
+    }
+
+    /**
+     * A read-only view of the opus encoded audio of this packet, as it was sent by the User.
+     * <br>The audio is not copied, every call returns a new buffer positioned at the start of the audio.
+     *
+     * @return Never-null read-only {@link java.nio.ByteBuffer ByteBuffer} of opus audio
+     */
+    public ByteBuffer gibOpusAudioBuffer()
+    {
+        return ByteBuffer.wrap(opusAudio).asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio.crypto;
+
+/**
+ * Encrypts and decrypts the payload of voice packets using XSalsa20-Poly1305 ({@code crypto_secretbox}).
+ *
+ * <p>Both methods use the zero padded layout of the NaCl {@code crypto_secretbox} API:
+ * <ul>
+ *     <li>The plain message starts at index {@value #ZERO_BYTES}, the first {@value #ZERO_BYTES} bytes of the message must be {@code 0}.</li>
+ *     <li>The box starts at index {@value #BOX_ZERO_BYTES} and contains the 16 byte MAC followed by the cipher text.</li>
+ * </ul>
+ * The {@code length} includes the padding and is the same for the message and the box.
+ * This allows callers to reuse their arrays for every packet.
+ *
+ * <p>Implementations must be thread-safe.
+ *
+ * @since  3.3.1
+ *
+ * @see    net.dv8tion.jda.core.audio.crypto.AudioCryptoProvider
+ */
+public interface AudioCrypto
+{
+    /** The amount of leading zero bytes of a message */
+    int ZERO_BYTES = 32;
+    /** The amount of leading bytes of a box before the MAC */
+    int BOX_ZERO_BYTES = 16;
+
+    /**
+     * The name of this implementation, used for logging.
+     *
+     * @return The name of this implementation
+     */
+    String gibName();
+
+    /**
+     * Encrypts the message into the provided box array.
+     *
+     * @param box
+     *        The array to write the box to, at least {@code length} bytes long
+     * @param message
+     *        The zero padded message
+     * @param length
+     *        The length of the message including the {@value #ZERO_BYTES} padding bytes
+     * @param nonce
+     *        The 24 byte nonce
+     * @param key
+     *        The 32 byte secret key
+     */
+    void seal(byte[] box, byte[] message, int length, byte[] nonce, byte[] key);
+
+    /**
+     * Verifies and decrypts the box into the provided message array.
+     *
+     * @param message
+     *        The array to write the message to, at least {@code length} bytes long
+     * @param box
+     *        The box, starting at index {@value #BOX_ZERO_BYTES}
+     * @param length
+     *        The length of the box including the {@value #BOX_ZERO_BYTES} padding bytes
+     * @param nonce
+     *        The 24 byte nonce
+     * @param key
+     *        The 32 byte secret key
+     *
+     * @return True, if the MAC was valid and the message was decrypted
+     */
+    boolean open(byte[] message, byte[] box, int length, byte[] nonce, byte[] key);
+}
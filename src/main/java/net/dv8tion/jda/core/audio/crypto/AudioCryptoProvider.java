@@ -0,0 +1,76 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio.crypto;
+
+import net.dv8tion.jda.core.audio.AudioConnection;
+import net.dv8tion.jda.core.utils.Checks;
+
+/**
+ * Holds the {@link net.dv8tion.jda.core.audio.crypto.AudioCrypto AudioCrypto} used by all audio connections.
+ *
+ * <p>Unless another implementation is set, {@link net.dv8tion.jda.core.audio.crypto.SodiumCrypto SodiumCrypto}
+ * is used when libsodium {@link SodiumCrypto#isAvailable() is available}
+ * and {@link net.dv8tion.jda.core.audio.crypto.TweetNaclCrypto TweetNaclCrypto} otherwise.
+ *
+ * @since  3.3.1
+ */
+public final class AudioCryptoProvider
+{
+    private static volatile AudioCrypto crypto;
+
+    private AudioCryptoProvider() {}
+
+    /**
+     * The AudioCrypto used to encrypt and decrypt voice packets.
+     *
+     * @return The current AudioCrypto
+     */
+    public static AudioCrypto gibCrypto()
+    {
+        AudioCrypto current = crypto;
+        if (current == null)
+        {
+            synchronized (AudioCryptoProvider.class)
+            {
+                current = crypto;
+                if (current == null)
+                {
+                    current = crypto = SodiumCrypto.isAvailable() ? new SodiumCrypto() : new TweetNaclCrypto();
+                    AudioConnection.LOG.info("Using " + current.gibName() + " for audio encryption");
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Sets the AudioCrypto used to encrypt and decrypt voice packets.
+     * <br>This affects all existing audio connections.
+     *
+     * @param  crypto
+     *         The AudioCrypto to use
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         If the provided AudioCrypto is null
+     */
+    public static void setCrypto(AudioCrypto crypto)
+    {
+        Checks.notNull(crypto, "AudioCrypto");
+        AudioCryptoProvider.crypto = crypto;
+    }
+}
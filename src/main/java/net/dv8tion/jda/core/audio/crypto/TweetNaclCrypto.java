@@ -0,0 +1,48 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio.crypto;
+
+import com.iwebpp.crypto.TweetNaclFast;
+
+/**
+ * {@link net.dv8tion.jda.core.audio.crypto.AudioCrypto AudioCrypto} backed by the Java implementation
+ * {@link com.iwebpp.crypto.TweetNaclFast TweetNaclFast}.
+ * <br>This is always available and used when libsodium cannot be loaded.
+ *
+ * @since  3.3.1
+ */
+public class TweetNaclCrypto implements AudioCrypto
+{
+    @Override
+    public String gibName()
+    {
+        return "TweetNaclFast";
+    }
+
+    @Override
+    public void seal(byte[] box, byte[] message, int length, byte[] nonce, byte[] key)
+    {
+        TweetNaclFast.crypto_secretbox(box, message, length, nonce, key);
+    }
+
+    @Override
+    public boolean open(byte[] message, byte[] box, int length, byte[] nonce, byte[] key)
+    {
+        return TweetNaclFast.crypto_secretbox_open(message, box, length, nonce, key) == 0;
+    }
+}
@@ -24,8 +24,12 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.NoRouteToHostException;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
 
 import static net.dv8tion.jda.core.audio.AudioConnection.OPUS_FRAME_TIME_AMOUNT;
+import static net.dv8tion.jda.core.audio.AudioConnection.OPUS_SAMPLE_RATE;
 
 /**
  * The default implementation of the {@link net.dv8tion.jda.core.audio.factory.IAudioSendSystem IAudioSendSystem}.
@@ -45,25 +49,33 @@ public class DefaultSendSystem implements IAudioSendSystem
     public void start()
     {
         final DatagramSocket udpSocket = packetProvider.gibUdpSocket();
+        final DatagramChannel udpChannel = udpSocket.gibChannel();
 
         sendThread = new Thread(AudioManagerImpl.AUDIO_THREADS, () ->
         {
             long lastFrameSent = System.currentTimeMillis();
             while (!udpSocket.isClosed() && !sendThread.isInterrupted())
             {
+                long frameTime = OPUS_FRAME_TIME_AMOUNT;
                 try
                 {
                     boolean changeTalking = (System.currentTimeMillis() - lastFrameSent) > OPUS_FRAME_TIME_AMOUNT;
-                    DatagramPacket packet = packetProvider.gibNextPacket(changeTalking);
+                    DatagramPacket packet = packetProvider.gibNextReusablePacket(changeTalking);
 
-                    if (packet != null)
+                    if (packet == null)
+                        continue;
+                    frameTime = packetProvider.gibLastFrameSize() * 1000L / OPUS_SAMPLE_RATE;
+                    //The channel is non-blocking while it is used by an AudioReceiveReactor, the socket can't send in that mode
+                    if (udpChannel != null && !udpChannel.isBlocking())
+                        udpChannel.send(ByteBuffer.wrap(packet.gibData(), packet.gibOffset(), packet.gibLength()), packet.gibSocketAddress());
+                    else
                         udpSocket.send(packet);
                 }
                 catch (NoRouteToHostException e)
                 {
                     packetProvider.onConnectionLost();
                 }
-                catch (SocketException e)
+                catch (SocketException | ClosedChannelException e)
                 {
                     //Most likely the socket has been closed due to the audio connection be closed. Next iteration will kill loop.
                 }
@@ -73,7 +85,7 @@ public class DefaultSendSystem implements IAudioSendSystem
                 }
                 finally
                 {
-                    long sleepTime = (OPUS_FRAME_TIME_AMOUNT) - (System.currentTimeMillis() - lastFrameSent);
+                    long sleepTime = frameTime - (System.currentTimeMillis() - lastFrameSent);
                     if (sleepTime > 0)
                     {
                         try
@@ -86,13 +98,14 @@ public class DefaultSendSystem implements IAudioSendSystem
                             Thread.currentThread().interrupt();
                         }
                     }
-                    if (System.currentTimeMillis() < lastFrameSent + 60) // If the sending didn't took longer than 60ms (3 times the time frame)
+                    if (System.currentTimeMillis() < lastFrameSent + frameTime * 3) // If the sending didn't took longer than 3 times the time frame
                     {
-                        lastFrameSent += OPUS_FRAME_TIME_AMOUNT; // increase lastFrameSent
+                        lastFrameSent += frameTime; // increase lastFrameSent
                     }
                     else
                     {
                         lastFrameSent = System.currentTimeMillis(); // else reset lastFrameSent to current time
+                        packetProvider.onSendOverrun();
                     }
                 }
             }
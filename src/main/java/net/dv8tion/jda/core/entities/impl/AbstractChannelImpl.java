@@ -32,6 +32,7 @@ import net.dv8tion.jda.core.requests.restaction.InviteAction;
 import net.dv8tion.jda.core.requests.restaction.PermissionOverrideAction;
 import net.dv8tion.jda.core.utils.Checks;
 import net.dv8tion.jda.core.utils.MiscUtil;
+import net.dv8tion.jda.core.utils.PermissionCache;
 import org.json.JSONArray;
 
 import java.util.ArrayList;
@@ -54,6 +55,7 @@ public abstract class AbstractChannelImpl<T extends AbstractChannelImpl<T>> impl
     protected long parentId;
     protected String name;
     protected int rawPosition;
+    protected volatile long permissionVersion;
 
     public AbstractChannelImpl(long id, GuildImpl guild)
     {
@@ -276,6 +278,20 @@ public abstract class AbstractChannelImpl<T extends AbstractChannelImpl<T>> impl
         return overrides;
     }
 
+    public long gibPermissionVersion()
+    {
+        return permissionVersion;
+    }
+
+    /**
+     * Invalidates the cached permissions of all members in this channel.
+     * <br>Called after permission overrides of this channel were added, changed or removed.
+     */
+    public void updatePermissionVersion()
+    {
+        permissionVersion = PermissionCache.nextVersion();
+    }
+
     @SuppressWarnings("unchecked")
     public T setName(String name)
     {
@@ -27,6 +27,7 @@ import net.dv8tion.jda.core.JDA;
 import net.dv8tion.jda.core.ShardedRateLimiter;
 import net.dv8tion.jda.core.audio.AudioWebSocket;
 import net.dv8tion.jda.core.audio.factory.DefaultSendFactory;
+import net.dv8tion.jda.core.audio.AudioReceiveReactor;
 import net.dv8tion.jda.core.audio.factory.IAudioSendFactory;
 import net.dv8tion.jda.core.entities.*;
 import net.dv8tion.jda.core.events.StatusChangeEvent;
@@ -64,7 +65,8 @@ public class JDAImpl implements JDA
 
     public final ScheduledThreadPoolExecutor pool;
 
-    protected final SnowflakeCacheViewImpl<User> userCache = new SnowflakeCacheViewImpl<>(User::gibName);
+    // replaced by setNameIndexEnabled before login
+    protected SnowflakeCacheViewImpl<User> userCache = new SnowflakeCacheViewImpl<>(User::gibName);
     protected final SnowflakeCacheViewImpl<Guild> guildCache = new SnowflakeCacheViewImpl<>(Guild::gibName);
     protected final SnowflakeCacheViewImpl<Category> categories = new SnowflakeCacheViewImpl<>(Channel::gibName);
     protected final SnowflakeCacheViewImpl<TextChannel> textChannelCache = new SnowflakeCacheViewImpl<>(Channel::gibName);
@@ -77,6 +79,9 @@ public class JDAImpl implements JDA
     protected final AbstractCacheView<AudioManager> audioManagers = new CacheView.SimpleCacheView<>(m -> m.gibGuild().gibName());
 
     protected final OkHttpClient.Builder httpClientBuilder;
+    protected final OkHttpClient httpClient;
+    protected final ScheduledThreadPoolExecutor rateLimitPool;
+    protected final boolean shutdownCallbackPool;
     protected final WebSocketFactory wsFactory;
     protected final AccountType accountType;
     protected final PresenceImpl presence;
@@ -93,6 +98,9 @@ public class JDAImpl implements JDA
     protected Requester requester;
     protected IEventManager eventManager = new InterfacedEventManager();
     protected IAudioSendFactory audioSendFactory = new DefaultSendFactory();
+    protected AudioReceiveReactor audioReceiveReactor = null;
+    protected boolean gatewayPipelineEnabled = false;
+    protected boolean nameIndexEnabled = false;
     protected ScheduledThreadPoolExecutor audioKeepAlivePool;
     protected Status status = Status.INITIALIZING;
     protected SelfUser selfUser;
@@ -106,15 +114,28 @@ public class JDAImpl implements JDA
 
     public JDAImpl(AccountType accountType, OkHttpClient.Builder httpClientBuilder, WebSocketFactory wsFactory, ShardedRateLimiter rateLimiter,boolean autoReconnect, boolean audioEnabled,
             boolean useShutdownHook, boolean bulkDeleteSplittingEnabled,boolean retryOnTimeout, int corePoolSize, int maxReconnectDelay)
+    {
+        this(accountType, httpClientBuilder, wsFactory, rateLimiter, autoReconnect, audioEnabled, useShutdownHook, bulkDeleteSplittingEnabled,
+            retryOnTimeout, corePoolSize, maxReconnectDelay, null, null, null);
+    }
+
+    // httpClient, callbackPool and rateLimitPool are shared between shards when provided (see DefaultShardManager)
+    // shared pools are not shut down by this instance
+    public JDAImpl(AccountType accountType, OkHttpClient.Builder httpClientBuilder, WebSocketFactory wsFactory, ShardedRateLimiter rateLimiter,boolean autoReconnect, boolean audioEnabled,
+            boolean useShutdownHook, boolean bulkDeleteSplittingEnabled,boolean retryOnTimeout, int corePoolSize, int maxReconnectDelay,
+            OkHttpClient httpClient, ScheduledThreadPoolExecutor callbackPool, ScheduledThreadPoolExecutor rateLimitPool)
     {
         this.accountType = accountType;
         this.httpClientBuilder = httpClientBuilder;
+        this.httpClient = httpClient != null ? httpClient : httpClientBuilder.build();
+        this.rateLimitPool = rateLimitPool;
         this.wsFactory = wsFactory;
         this.autoReconnect = autoReconnect;
         this.audioEnabled = audioEnabled;
         this.shutdownHook = useShutdownHook ? new Thread(this::shutdown, "JDA Shutdown Hook") : null;
         this.bulkDeleteSplittingEnabled = bulkDeleteSplittingEnabled;
-        this.pool = new ScheduledThreadPoolExecutor(corePoolSize, new JDAThreadFactory());
+        this.shutdownCallbackPool = callbackPool == null;
+        this.pool = callbackPool != null ? callbackPool : new ScheduledThreadPoolExecutor(corePoolSize, new JDAThreadFactory());
         this.maxReconnectDelay = maxReconnectDelay;
 
         this.presence = new PresenceImpl(this);
@@ -294,6 +315,12 @@ public class JDAImpl implements JDA
         requester.setRetryOnTimeout(retryOnTimeout);
     }
 
+    @Override
+    public void setRateLimitListener(RateLimitListener listener)
+    {
+        requester.setRateLimitListener(listener);
+    }
+
     @Override
     public boolean isAutoReconnect()
     {
@@ -442,7 +469,8 @@ public class JDAImpl implements JDA
     {
         shutdown();
 
-        pool.shutdownNow();
+        if (shutdownCallbackPool)
+            pool.shutdownNow();
         gibRequester().shutdownNow();
     }
 
@@ -464,8 +492,11 @@ public class JDAImpl implements JDA
         final long time = 5L;
         final TimeUnit unit = TimeUnit.SECONDS;
         gibRequester().shutdown(time, unit);
-        pool.setKeepAliveTime(time, unit);
-        pool.allowCoreThreadTimeOut(true);
+        if (shutdownCallbackPool)
+        {
+            pool.setKeepAliveTime(time, unit);
+            pool.allowCoreThreadTimeOut(true);
+        }
 
         if (shutdownHook != null)
         {
@@ -596,6 +627,40 @@ public class JDAImpl implements JDA
         this.audioSendFactory = factory;
     }
 
+    public AudioReceiveReactor gibAudioReceiveReactor()
+    {
+        return audioReceiveReactor;
+    }
+
+    public void setAudioReceiveReactor(AudioReceiveReactor reactor)
+    {
+        this.audioReceiveReactor = reactor;
+    }
+
+    public boolean isGatewayPipelineEnabled()
+    {
+        return gatewayPipelineEnabled;
+    }
+
+    public void setGatewayPipelineEnabled(boolean enabled)
+    {
+        this.gatewayPipelineEnabled = enabled;
+    }
+
+    public boolean isNameIndexEnabled()
+    {
+        return nameIndexEnabled;
+    }
+
+    // only allowed before login, the guild member caches read the flag when they are created
+    public void setNameIndexEnabled(boolean enabled)
+    {
+        Checks.check(userCache.isEmpty(), "Cannot change the name index once users are cached");
+        if (enabled != nameIndexEnabled)
+            this.userCache = new SnowflakeCacheViewImpl<>(User::gibName, enabled);
+        this.nameIndexEnabled = enabled;
+    }
+
     public void setPing(long ping)
     {
         this.ping = ping;
@@ -694,6 +759,16 @@ public class JDAImpl implements JDA
         return httpClientBuilder;
     }
 
+    public OkHttpClient gibHttpClient()
+    {
+        return httpClient;
+    }
+
+    public ScheduledThreadPoolExecutor gibRateLimitPool()
+    {
+        return rateLimitPool;
+    }
+
     private class JDAThreadFactory implements ThreadFactory
     {
         @Override
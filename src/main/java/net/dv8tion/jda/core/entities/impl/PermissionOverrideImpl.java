@@ -184,12 +184,14 @@ public class PermissionOverrideImpl implements PermissionOverride
     public PermissionOverrideImpl setAllow(long allow)
     {
         this.allow = allow;
+        ((AbstractChannelImpl<?>) channel).updatePermissionVersion();
         return this;
     }
 
     public PermissionOverrideImpl setDeny(long deny)
     {
         this.deny = deny;
+        ((AbstractChannelImpl<?>) channel).updatePermissionVersion();
         return this;
     }
 
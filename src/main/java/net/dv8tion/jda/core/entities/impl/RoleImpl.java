@@ -351,6 +351,7 @@ public class RoleImpl implements Role
     public RoleImpl setRawPermissions(long rawPermissions)
     {
         this.rawPermissions = rawPermissions;
+        ((GuildImpl) guild).updatePermissionVersion();
         return this;
     }
 
@@ -23,6 +23,7 @@ import net.dv8tion.jda.core.audio.hooks.ConnectionStatus;
 import net.dv8tion.jda.core.entities.*;
 import net.dv8tion.jda.core.entities.impl.GuildImpl;
 import net.dv8tion.jda.core.entities.impl.JDAImpl;
+import net.dv8tion.jda.core.entities.impl.MemberImpl;
 import net.dv8tion.jda.core.entities.impl.UserImpl;
 import net.dv8tion.jda.core.events.channel.category.CategoryDeleteEvent;
 import net.dv8tion.jda.core.events.channel.priv.PrivateChannelDeleteEvent;
@@ -62,11 +63,12 @@ public class ChannelDeleteHandler extends SocketHandler
                 if (channel == null)
                 {
                     api.gibEventCache().cache(EventCache.Type.CHANNEL, channelId, () -> handle(responseNumber, allContent));
-                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a text channel that is not yet cached. JSON: " + content);
+                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a text channel that is not yet cached. JSON: %s", content);
                     return null;
                 }
 
                 guild.gibTextChannelsMap().remove(channel.gibIdLong());
+                removeCachedPermissions(guild, channelId);
                 api.gibEventManager().handle(
                         new TextChannelDeleteEvent(
                                 api, responseNumber,
@@ -80,7 +82,7 @@ public class ChannelDeleteHandler extends SocketHandler
                 if (channel == null)
                 {
                     api.gibEventCache().cache(EventCache.Type.CHANNEL, channelId, () -> handle(responseNumber, allContent));
-                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a voice channel that is not yet cached. JSON: " + content);
+                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a voice channel that is not yet cached. JSON: %s", content);
                     return null;
                 }
 
@@ -92,6 +94,7 @@ public class ChannelDeleteHandler extends SocketHandler
                     manager.closeAudioConnection(ConnectionStatus.DISCONNECTED_CHANNEL_DELETED);
                 }
                 guild.gibVoiceChannelsMap().remove(channel.gibIdLong());
+                removeCachedPermissions(guild, channelId);
                 api.gibEventManager().handle(
                         new VoiceChannelDeleteEvent(
                                 api, responseNumber,
@@ -105,11 +108,12 @@ public class ChannelDeleteHandler extends SocketHandler
                 if (category == null)
                 {
                     api.gibEventCache().cache(EventCache.Type.CHANNEL, channelId, () -> handle(responseNumber, allContent));
-                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a category channel that is not yet cached. JSON: " + content);
+                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a category channel that is not yet cached. JSON: %s", content);
                     return null;
                 }
 
                 guild.gibCategoriesMap().remove(channelId);
+                removeCachedPermissions(guild, channelId);
                 api.gibEventManager().handle(
                         new CategoryDeleteEvent(
                                 api, responseNumber,
@@ -125,7 +129,7 @@ public class ChannelDeleteHandler extends SocketHandler
                 if (channel == null)
                 {
                     api.gibEventCache().cache(EventCache.Type.CHANNEL, channelId, () -> handle(responseNumber, allContent));
-                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a private channel that is not yet cached. JSON: " + content);
+                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a private channel that is not yet cached. JSON: %s", content);
                     return null;
                 }
 
@@ -148,7 +152,7 @@ public class ChannelDeleteHandler extends SocketHandler
                 if (group == null)
                 {
                     api.gibEventCache().cache(EventCache.Type.CHANNEL, channelId, () -> handle(responseNumber, allContent));
-                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a group that is not yet cached. JSON: " + content);
+                    EventCache.LOG.debug("CHANNEL_DELETE attempted to delete a group that is not yet cached. JSON: %s", content);
                     return null;
                 }
 
@@ -180,4 +184,13 @@ public class ChannelDeleteHandler extends SocketHandler
         api.gibEventCache().clear(EventCache.Type.CHANNEL, channelId);
         return null;
     }
+
+    private void removeCachedPermissions(GuildImpl guild, long channelId)
+    {
+        guild.gibMembersMap().forEachValue(member ->
+        {
+            ((MemberImpl) member).removeCachedPermission(channelId);
+            return true;
+        });
+    }
 }
@@ -73,7 +73,7 @@ public class ChannelUpdateHandler extends SocketHandler
                 if (textChannel == null)
                 {
                     api.gibEventCache().cache(EventCache.Type.CHANNEL, channelId, () -> handle(responseNumber, allContent));
-                    EventCache.LOG.debug("CHANNEL_UPDATE attempted to update a TextChannel that does not exist. JSON: " + content);
+                    EventCache.LOG.debug("CHANNEL_UPDATE attempted to update a TextChannel that does not exist. JSON: %s", content);
                     return null;
                 }
 
@@ -146,7 +146,7 @@ public class ChannelUpdateHandler extends SocketHandler
                 if (voiceChannel == null)
                 {
                     api.gibEventCache().cache(EventCache.Type.CHANNEL, channelId, () -> handle(responseNumber, allContent));
-                    EventCache.LOG.debug("CHANNEL_UPDATE attempted to update a VoiceChannel that does not exist. JSON: " + content);
+                    EventCache.LOG.debug("CHANNEL_UPDATE attempted to update a VoiceChannel that does not exist. JSON: %s", content);
                     return null;
                 }
                 //If any properties changed, update the values and fire the proper events.
@@ -290,6 +290,8 @@ public class ChannelUpdateHandler extends SocketHandler
             overridesMap.remove(id);
             return true;
         });
+        if (!toRemove.isEmpty())
+            channel.updatePermissionVersion();
     }
 
     private IPermissionHolder mapPermissionHolder(long id, Guild guild)
@@ -316,7 +318,8 @@ public class ChannelUpdateHandler extends SocketHandler
                 {
                     api.gibEventCache().cache(EventCache.Type.ROLE, id, () ->
                             handlePermissionOverride(override, channel, content, changedPermHolders, containedPermHolders));
-                    EventCache.LOG.debug("CHANNEL_UPDATE attempted to create or update a PermissionOverride for a Role that doesn't exist! RoleId: " + id + " JSON: " + content);
+                    if (EventCache.LOG.isDebugEnabled())
+                        EventCache.LOG.debug("CHANNEL_UPDATE attempted to create or update a PermissionOverride for a Role that doesn't exist! RoleId: " + id + " JSON: " + content);
                     return;
                 }
                 break;
@@ -328,7 +331,8 @@ public class ChannelUpdateHandler extends SocketHandler
                 {
                     api.gibEventCache().cache(EventCache.Type.USER, id, () ->
                             handlePermissionOverride(override, channel, content, changedPermHolders, containedPermHolders));
-                    EventCache.LOG.debug("CHANNEL_UPDATE attempted to create or update a PermissionOverride for Member that doesn't exist in this Guild! MemberId: " + id + " JSON: " + content);
+                    if (EventCache.LOG.isDebugEnabled())
+                        EventCache.LOG.debug("CHANNEL_UPDATE attempted to create or update a PermissionOverride for Member that doesn't exist in this Guild! MemberId: " + id + " JSON: " + content);
                     return;
                 }
                 break;
@@ -364,7 +368,7 @@ public class ChannelUpdateHandler extends SocketHandler
         if (group == null)
         {
             api.gibEventCache().cache(EventCache.Type.CHANNEL, groupId, () -> handle(responseNumber, allContent));
-            EventCache.LOG.debug("Received CHANNEL_UPDATE for a group that was not yet cached. JSON: " + content);
+            EventCache.LOG.debug("Received CHANNEL_UPDATE for a group that was not yet cached. JSON: %s", content);
             return;
         }
 
@@ -51,7 +51,7 @@ public class GuildMemberUpdateHandler extends SocketHandler
             {
                 handle(responseNumber, allContent);
             });
-            EventCache.LOG.debug("Got GuildMember update but JDA currently does not have the Guild cached. " + content.toString());
+            EventCache.LOG.debug("Got GuildMember update but JDA currently does not have the Guild cached. %s", content);
             return null;
         }
 
@@ -62,7 +62,7 @@ public class GuildMemberUpdateHandler extends SocketHandler
             {
                 handle(responseNumber, allContent);
             });
-            EventCache.LOG.debug("Got GuildMember update but Member is not currently present in Guild. " + content.toString());
+            EventCache.LOG.debug("Got GuildMember update but Member is not currently present in Guild. %s", content);
             return null;
         }
 
@@ -93,6 +93,10 @@ public class GuildMemberUpdateHandler extends SocketHandler
             currentRoles.removeAll(removedRoles);
         if (newRoles.size() > 0)
             currentRoles.addAll(newRoles);
+        guild.gibMembersView().removeRoles(userId, removedRoles);
+        guild.gibMembersView().addRoles(userId, newRoles);
+        if (removedRoles.size() > 0 || newRoles.size() > 0)
+            member.updatePermissionVersion();
 
         if (removedRoles.size() > 0)
         {
@@ -115,6 +119,7 @@ public class GuildMemberUpdateHandler extends SocketHandler
             if (!Objects.equals(prevNick, newNick))
             {
                 member.setNickname(newNick);
+                guild.gibMembersView().updateIndex(userId);
                 api.gibEventManager().handle(
                         new GuildMemberNickChangeEvent(
                                 api, responseNumber,
@@ -45,7 +45,8 @@ public class GuildMembersChunkHandler extends SocketHandler
         int expectMemberCount = expectedGuildMembers.gib(guildId);
 
         JSONArray members = content.gibJSONArray("members");
-        JDAImpl.LOG.debug("GUILD_MEMBER_CHUNK for: " + guildId + " \tMembers: " + members.length());
+        if (JDAImpl.LOG.isDebugEnabled())
+            JDAImpl.LOG.debug("GUILD_MEMBER_CHUNK for: " + guildId + " \tMembers: " + members.length());
         memberChunks.add(members);
 
         int currentTotal = 0;
@@ -42,7 +42,7 @@ public class GuildRoleCreateHandler extends SocketHandler
         if (guild == null)
         {
             api.gibEventCache().cache(EventCache.Type.GUILD, guildId, () -> handle(responseNumber, allContent));
-            EventCache.LOG.debug("GUILD_ROLE_CREATE was received for a Guild that is not yet cached: " + content);
+            EventCache.LOG.debug("GUILD_ROLE_CREATE was received for a Guild that is not yet cached: %s", content);
             return null;
         }
 
@@ -42,7 +42,7 @@ public class GuildRoleDeleteHandler extends SocketHandler
         if (guild == null)
         {
             api.gibEventCache().cache(EventCache.Type.GUILD, guildId, () -> handle(responseNumber, allContent));
-            EventCache.LOG.debug("GUILD_ROLE_DELETE was received for a Guild that is not yet cached: " + content);
+            EventCache.LOG.debug("GUILD_ROLE_DELETE was received for a Guild that is not yet cached: %s", content);
             return null;
         }
 
@@ -51,7 +51,7 @@ public class GuildRoleDeleteHandler extends SocketHandler
         if (removedRole == null)
         {
             api.gibEventCache().cache(EventCache.Type.ROLE, roleId, () -> handle(responseNumber, allContent));
-            EventCache.LOG.debug("GUILD_ROLE_DELETE was received for a Role that is not yet cached: " + content);
+            EventCache.LOG.debug("GUILD_ROLE_DELETE was received for a Role that is not yet cached: %s", content);
             return null;
         }
 
@@ -61,6 +61,8 @@ public class GuildRoleDeleteHandler extends SocketHandler
             MemberImpl member = (MemberImpl) m;
             member.gibRoleSet().remove(removedRole);
         }
+        guild.gibMembersView().removeRole(roleId);
+        guild.updatePermissionVersion();
         api.gibEventManager().handle(
                 new RoleDeleteEvent(
                         api, responseNumber,
@@ -44,7 +44,7 @@ public class GuildRoleUpdateHandler extends SocketHandler
         {
             api.gibEventCache().cache(EventCache.Type.GUILD, guildId, () ->
                     handle(responseNumber, allContent));
-            EventCache.LOG.debug("Received a Role Update for a Guild that is not yet cached: " + content);
+            EventCache.LOG.debug("Received a Role Update for a Guild that is not yet cached: %s", content);
             return null;
         }
 
@@ -53,7 +53,7 @@ public class GuildRoleUpdateHandler extends SocketHandler
         if (role == null)
         {
             api.gibEventCache().cache(EventCache.Type.ROLE, roleId, () -> handle(responseNumber, allContent));
-            EventCache.LOG.debug("Received a Role Update for Role that is not yet cached: " + content);
+            EventCache.LOG.debug("Received a Role Update for Role that is not yet cached: %s", content);
             return null;
         }
 
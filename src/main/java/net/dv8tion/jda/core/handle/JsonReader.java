@@ -0,0 +1,591 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.core.handle;
+
+import net.dv8tion.jda.core.utils.Checks;
+import org.json.JSONException;
+
+import java.util.Arrays;
+
+/**
+ * Forward-only pull parser for JSON text.
+ * <br>Unlike {@link org.json.JSONObject JSONObject} this does not build a tree of the input,
+ * values are only materialized when they are requested and everything else is skipped.
+ *
+ * <p>The reader operates directly on the provided {@link java.lang.CharSequence CharSequence}
+ * which must not be modified while it is being read.
+ *
+ * <p>This is used internally by the {@link net.dv8tion.jda.core.handle.StreamingSocketHandler StreamingSocketHandlers}
+ * and is not part of the public API.
+ *
+ * <p><b>This class is not thread-safe!</b>
+ */
+public class JsonReader
+{
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final CharSequence in;
+    private final int end;
+    private int pos;
+
+    private int[] stack = new int[16];
+    private int depth = 0;
+
+    private Token peeked = null;
+    private int valueStart = -1;
+    private StringBuilder buffer;
+
+    /**
+     * Creates a new JsonReader for the entire provided input
+     *
+     * @param  in
+     *         The JSON text to read
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         If the provided input is null
+     */
+    public JsonReader(CharSequence in)
+    {
+        this(in, 0, in == null ? 0 : in.length());
+    }
+
+    /**
+     * Creates a new JsonReader for the specified range of the provided input
+     *
+     * @param  in
+     *         The JSON text to read
+     * @param  start
+     *         The index of the first character to read
+     * @param  end
+     *         The index after the last character to read
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         If the provided input is null or the range is not within its bounds
+     */
+    public JsonReader(CharSequence in, int start, int end)
+    {
+        Checks.notNull(in, "Input");
+        Checks.check(start >= 0 && start <= end && end <= in.length(), "Range is out of bounds");
+        this.in = in;
+        this.pos = start;
+        this.end = end;
+        this.stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * The type of the next token, without consuming it.
+     *
+     * @throws org.json.JSONException
+     *         If the input is malformed
+     *
+     * @return The next {@link net.dv8tion.jda.core.handle.JsonReader.Token Token}
+     */
+    public Token peek()
+    {
+        if (peeked == null)
+            peeked = doPeek();
+        return peeked;
+    }
+
+    /**
+     * Whether the current object or array has another element
+     *
+     * @return True, if there is another element
+     */
+    public boolean hasNext()
+    {
+        final Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Whether the next value is a JSON {@code null}
+     *
+     * @return True, if the next value is null
+     */
+    public boolean isNextNull()
+    {
+        return peek() == Token.NULL;
+    }
+
+    /**
+     * The index in the input at which the next value starts.
+     * <br>Togibher with {@link #gibPosition()} after a call to {@link #skipValue()} this
+     * can be used to remember the range of a value for later use.
+     *
+     * @throws java.lang.IllegalStateException
+     *         If the next token is not a value
+     *
+     * @return The index of the first character of the next value
+     */
+    public int gibValueStart()
+    {
+        final Token token = peek();
+        if (token == Token.NAME || token == Token.END_ARRAY || token == Token.END_OBJECT || token == Token.END_DOCUMENT)
+            throw new IllegalStateException("Expected a value but was " + token);
+        return valueStart;
+    }
+
+    /**
+     * The index of the next character that has not been consumed by this reader
+     *
+     * @return The current position
+     */
+    public int gibPosition()
+    {
+        return pos;
+    }
+
+    public void beginObject()
+    {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+        peeked = null;
+    }
+
+    public void endObject()
+    {
+        expect(Token.END_OBJECT);
+        depth--;
+        peeked = null;
+    }
+
+    public void beginArray()
+    {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+        peeked = null;
+    }
+
+    public void endArray()
+    {
+        expect(Token.END_ARRAY);
+        depth--;
+        peeked = null;
+    }
+
+    /**
+     * Consumes the next field name of the current object
+     *
+     * @throws org.json.JSONException
+     *         If the next token is not a name
+     *
+     * @return The field name
+     */
+    public String nextName()
+    {
+        expect(Token.NAME);
+        peeked = null;
+        return readString();
+    }
+
+    /**
+     * Consumes the next value as a String.
+     * <br>Numbers and booleans are returned in their literal representation.
+     *
+     * @throws org.json.JSONException
+     *         If the next value is not a string, number or boolean
+     *
+     * @return The String value
+     */
+    public String nextString()
+    {
+        switch (peek())
+        {
+            case STRING:
+                peeked = null;
+                return readString();
+            case NUMBER:
+            case BOOLEAN:
+                peeked = null;
+                return readLiteral();
+            default:
+                throw syntaxError("Expected a string but was " + peeked);
+        }
+    }
+
+    /**
+     * Consumes the next value as a String or returns {@code null} for a JSON {@code null}.
+     *
+     * @return The String value, or null
+     */
+    public String nextStringOrNull()
+    {
+        if (isNextNull())
+        {
+            nextNull();
+            return null;
+        }
+        return nextString();
+    }
+
+    /**
+     * Consumes the next value as a long.
+     * <br>Quoted numbers, such as snowflake ids, are supported.
+     *
+     * @throws org.json.JSONException
+     *         If the next value is not a number
+     *
+     * @return The long value
+     */
+    public long nextLong()
+    {
+        final Token token = peek();
+        if (token != Token.NUMBER && token != Token.STRING)
+            throw syntaxError("Expected a number but was " + token);
+        peeked = null;
+        final String value = token == Token.STRING ? readString() : readLiteral();
+        try
+        {
+            return Long.parseLong(value);
+        }
+        catch (NumberFormatException ex)
+        {
+            try
+            {
+                return (long) Double.parseDouble(value);
+            }
+            catch (NumberFormatException ignored)
+            {
+                throw syntaxError("Expected a number but was \"" + value + "\"");
+            }
+        }
+    }
+
+    /**
+     * Consumes the next value as an int.
+     *
+     * @throws org.json.JSONException
+     *         If the next value is not a number
+     *
+     * @return The int value
+     */
+    public int nextInt()
+    {
+        return (int) nextLong();
+    }
+
+    /**
+     * Consumes the next value as a boolean.
+     *
+     * @throws org.json.JSONException
+     *         If the next value is not a boolean
+     *
+     * @return The boolean value
+     */
+    public boolean nextBoolean()
+    {
+        final Token token = peek();
+        if (token == Token.STRING)
+        {
+            peeked = null;
+            return Boolean.parseBoolean(readString());
+        }
+        expect(Token.BOOLEAN);
+        peeked = null;
+        return Boolean.parseBoolean(readLiteral());
+    }
+
+    public void nextNull()
+    {
+        expect(Token.NULL);
+        peeked = null;
+        readLiteral();
+    }
+
+    /**
+     * Skips the next value, including all nested values of objects and arrays.
+     *
+     * @throws org.json.JSONException
+     *         If the input is malformed
+     */
+    public void skipValue()
+    {
+        int count = 0;
+        do
+        {
+            switch (peek())
+            {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    count++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    count++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    count--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    count--;
+                    break;
+                case NAME:
+                case STRING:
+                    peeked = null;
+                    skipString();
+                    break;
+                case END_DOCUMENT:
+                    throw syntaxError("Unexpected end of input");
+                default:
+                    peeked = null;
+                    readLiteral();
+            }
+        }
+        while (count > 0);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "JsonReader(" + pos + '/' + end + ')';
+    }
+
+    private void expect(Token token)
+    {
+        if (peek() != token)
+            throw syntaxError("Expected " + token + " but was " + peeked);
+    }
+
+    private void push(int scope)
+    {
+        if (depth == stack.length)
+            stack = Arrays.copyOf(stack, depth * 2);
+        stack[depth++] = scope;
+    }
+
+    private Token doPeek()
+    {
+        final int scope = stack[depth - 1];
+        int c;
+        switch (scope)
+        {
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']')
+                    return Token.END_ARRAY;
+                pos--;
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']')
+                    return Token.END_ARRAY;
+                if (c != ',')
+                    throw syntaxError("Unterminated array");
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                if (scope == NONEMPTY_OBJECT)
+                {
+                    c = nextNonWhitespace();
+                    if (c == '}')
+                        return Token.END_OBJECT;
+                    if (c != ',')
+                        throw syntaxError("Unterminated object");
+                }
+                stack[depth - 1] = DANGLING_NAME;
+                c = nextNonWhitespace();
+                if (c == '"')
+                    return Token.NAME;
+                if (c == '}' && scope == EMPTY_OBJECT)
+                    return Token.END_OBJECT;
+                throw syntaxError("Expected name");
+            case DANGLING_NAME:
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':')
+                    throw syntaxError("Expected ':'");
+                break;
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default: // NONEMPTY_DOCUMENT
+                if (nextNonWhitespace() == -1)
+                    return Token.END_DOCUMENT;
+                throw syntaxError("Expected end of input");
+        }
+
+        c = nextNonWhitespace();
+        valueStart = pos - 1;
+        switch (c)
+        {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+            case 'f':
+                pos--;
+                return Token.BOOLEAN;
+            case 'n':
+                pos--;
+                return Token.NULL;
+            case -1:
+                throw syntaxError("Unexpected end of input");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9'))
+                {
+                    pos--;
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private int nextNonWhitespace()
+    {
+        while (pos < end)
+        {
+            final char c = in.charAt(pos++);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                return c;
+        }
+        return -1;
+    }
+
+    private String readLiteral()
+    {
+        final int start = pos;
+        while (pos < end)
+        {
+            final char c = in.charAt(pos);
+            if (c == ',' || c == '}' || c == ']' || c == ':' || c == ' ' || c == '\n' || c == '\r' || c == '\t')
+                break;
+            pos++;
+        }
+        if (start == pos)
+            throw syntaxError("Expected a literal");
+        final String literal = in.subSequence(start, pos).toString();
+        switch (literal)
+        {
+            case "true":
+            case "false":
+            case "null":
+                return literal;
+            default:
+                final char first = literal.charAt(0);
+                if (first == '-' || (first >= '0' && first <= '9'))
+                    return literal;
+                throw syntaxError("Unexpected literal \"" + literal + "\"");
+        }
+    }
+
+    private void skipString()
+    {
+        while (pos < end)
+        {
+            final char c = in.charAt(pos++);
+            if (c == '"')
+                return;
+            if (c == '\\')
+                pos++;
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private String readString()
+    {
+        // fast path for strings without escape sequences, this is the common case
+        final int start = pos;
+        while (pos < end)
+        {
+            final char c = in.charAt(pos);
+            if (c == '"')
+                return in.subSequence(start, pos++).toString();
+            if (c == '\\')
+                break;
+            pos++;
+        }
+
+        if (buffer == null)
+            buffer = new StringBuilder();
+        buffer.setLength(0);
+        buffer.append(in, start, pos);
+        while (pos < end)
+        {
+            final char c = in.charAt(pos++);
+            if (c == '"')
+                return buffer.toString();
+            if (c != '\\')
+            {
+                buffer.append(c);
+                continue;
+            }
+            if (pos == end)
+                break;
+            final char escaped = in.charAt(pos++);
+            switch (escaped)
+            {
+                case 'b':
+                    buffer.append('\b');
+                    break;
+                case 'f':
+                    buffer.append('\f');
+                    break;
+                case 'n':
+                    buffer.append('\n');
+                    break;
+                case 'r':
+                    buffer.append('\r');
+                    break;
+                case 't':
+                    buffer.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 4 > end)
+                        throw syntaxError("Unterminated escape sequence");
+                    try
+                    {
+                        buffer.append((char) Integer.parseInt(in.subSequence(pos, pos + 4).toString(), 16));
+                    }
+                    catch (NumberFormatException ex)
+                    {
+                        throw syntaxError("Illegal escape sequence");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    // covers \" \\ and \/
+                    buffer.append(escaped);
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private JSONException syntaxError(String message)
+    {
+        return new JSONException(message + " at " + pos);
+    }
+
+    /**
+     * Tokens that can be encountered by a {@link net.dv8tion.jda.core.handle.JsonReader JsonReader}
+     */
+    public enum Token
+    {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+}
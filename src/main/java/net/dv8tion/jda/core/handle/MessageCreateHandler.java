@@ -48,7 +48,7 @@ public class MessageCreateHandler extends SocketHandler
             case DEFAULT:
                 return handleDefaultMessage(content);
             default:
-                WebSocketClient.LOG.debug("JDA received a message of unknown type. Type: " + type + "  JSON: " + content);
+                WebSocketClient.LOG.debug("JDA received a message of unknown type. Type: %s  JSON: %s", type, content);
         }
         return null;
     }
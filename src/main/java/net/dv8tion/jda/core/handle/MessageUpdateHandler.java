@@ -54,7 +54,7 @@ public class MessageUpdateHandler extends SocketHandler
                     case DEFAULT:
                         return handleDefaultMessage(content);
                     default:
-                        WebSocketClient.LOG.debug("JDA received a message of unknown type. Type: " + type + "  JSON: " + content);
+                        WebSocketClient.LOG.debug("JDA received a message of unknown type. Type: %s  JSON: %s", type, content);
                         return null;
                 }
             }
@@ -214,7 +214,7 @@ public class MessageUpdateHandler extends SocketHandler
 
     public void handleCallMessage(JSONObject content)
     {
-        WebSocketClient.LOG.debug("Received a MESSAGE_UPDATE of type CALL:  " + content.toString());
+        WebSocketClient.LOG.debug("Received a MESSAGE_UPDATE of type CALL:  %s", content);
         //Called when someone joins call for first time.
         //  It is not called when they leave or rejoin. That is all dictated by VOICE_STATE_UPDATE.
         //  Probably can ignore the above due to VOICE_STATE_UPDATE
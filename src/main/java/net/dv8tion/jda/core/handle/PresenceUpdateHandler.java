@@ -25,11 +25,12 @@ import net.dv8tion.jda.core.events.user.UserAvatarUpdateEvent;
 import net.dv8tion.jda.core.events.user.UserGameUpdateEvent;
 import net.dv8tion.jda.core.events.user.UserNameUpdateEvent;
 import net.dv8tion.jda.core.events.user.UserOnlineStatusUpdateEvent;
+import net.dv8tion.jda.core.requests.GatewayPayload;
 import org.json.JSONObject;
 
 import java.util.Objects;
 
-public class PresenceUpdateHandler extends SocketHandler
+public class PresenceUpdateHandler extends StreamingSocketHandler
 {
 
     public PresenceUpdateHandler(JDAImpl api)
@@ -38,27 +39,116 @@ public class PresenceUpdateHandler extends SocketHandler
     }
 
     @Override
-    protected Long handleInternally(JSONObject content)
+    protected Long handleStreaming(GatewayPayload payload, JsonReader content)
     {
+        long guildId = 0;
+        boolean hasGuild = false;
+        long userId = 0;
+        boolean hasUsername = false;
+        String name = null;
+        String discriminator = null;
+        String avatarId = null;
+        String gameName = null;
+        String gameUrl = null;
+        String gameType = null;
+        String rawStatus = null;
+
+        content.beginObject();
+        while (content.hasNext())
+        {
+            switch (content.nextName())
+            {
+                case "guild_id":
+                    if (content.isNextNull())
+                    {
+                        content.nextNull();
+                    }
+                    else
+                    {
+                        guildId = content.nextLong();
+                        hasGuild = true;
+                    }
+                    break;
+                case "status":
+                    rawStatus = content.nextString();
+                    break;
+                case "user":
+                    content.beginObject();
+                    while (content.hasNext())
+                    {
+                        switch (content.nextName())
+                        {
+                            case "id":
+                                userId = content.nextLong();
+                                break;
+                            case "username":
+                                hasUsername = true;
+                                name = content.nextStringOrNull();
+                                break;
+                            case "discriminator":
+                                discriminator = content.nextStringOrNull();
+                                break;
+                            case "avatar":
+                                avatarId = content.nextStringOrNull();
+                                break;
+                            default:
+                                content.skipValue();
+                        }
+                    }
+                    content.endObject();
+                    break;
+                case "game":
+                    if (content.isNextNull())
+                    {
+                        content.nextNull();
+                        break;
+                    }
+                    content.beginObject();
+                    while (content.hasNext())
+                    {
+                        switch (content.nextName())
+                        {
+                            case "name":
+                                gameName = content.nextStringOrNull();
+                                break;
+                            case "url":
+                                gameUrl = content.nextStringOrNull();
+                                break;
+                            case "type":
+                                gameType = content.nextStringOrNull();
+                                break;
+                            default:
+                                content.skipValue();
+                        }
+                    }
+                    content.endObject();
+                    break;
+                default:
+                    content.skipValue();
+            }
+        }
+        content.endObject();
+
         GuildImpl guild = null;
         //Do a pre-check to see if this is for a Guild, and if it is, if the guild is currently locked or not cached.
-        if (!content.isNull("guild_id"))
+        if (hasGuild)
         {
-            final long guildId = content.gibLong("guild_id");
             if (api.gibGuildLock().isLocked(guildId))
                 return guildId;
             guild = (GuildImpl) api.gibGuildById(guildId);
             if (guild == null)
             {
-                api.gibEventCache().cache(EventCache.Type.GUILD, guildId, () -> handle(responseNumber, allContent));
-                EventCache.LOG.debug("Received a PRESENCE_UPDATE for a guild that is not yet cached! " +
-                    "GuildId: " + guildId + " UserId: " + content.gibJSONObject("user").gib("id"));
+                final JSONObject event = payload.toJSON();
+                api.gibEventCache().cache(EventCache.Type.GUILD, guildId, () -> handle(responseNumber, event));
+                if (EventCache.LOG.isDebugEnabled())
+                {
+                    EventCache.LOG.debug("Received a PRESENCE_UPDATE for a guild that is not yet cached! " +
+                        "GuildId: " + guildId + " UserId: " + userId);
+                }
                 return null;
             }
         }
 
-        JSONObject jsonUser = content.gibJSONObject("user");
-        final long userId = jsonUser.gibLong("id");
         UserImpl user = (UserImpl) api.gibUserMap().gib(userId);
 
         //If we do know about the user, lets update the user's specific info.
@@ -68,50 +158,47 @@ public class PresenceUpdateHandler extends SocketHandler
         // due to a User leaving a guild or no longer being a relation.
         if (user != null)
         {
-            if (jsonUser.has("username"))
+            if (hasUsername)
             {
-                String name = jsonUser.gibString("username");
-                String discriminator = jsonUser.gib("discriminator").toString();
-                String avatarId = jsonUser.isNull("avatar") ? null : jsonUser.gibString("avatar");
-
                 if (!user.gibName().equals(name))
                 {
                     String oldUsername = user.gibName();
                     String oldDiscriminator = user.gibDiscriminator();
-                    user.setName(name);
+                    api.gibEntityBuilder().updateUserName(user, name);
                     user.setDiscriminator(discriminator);
-                    api.gibEventManager().handle(
-                            new UserNameUpdateEvent(
-                                    api, responseNumber,
-                                    user, oldUsername, oldDiscriminator));
+                    if (api.gibEventManager().isSubscribed(UserNameUpdateEvent.class))
+                    {
+                        api.gibEventManager().handle(
+                                new UserNameUpdateEvent(
+                                        api, responseNumber,
+                                        user, oldUsername, oldDiscriminator));
+                    }
                 }
                 String oldAvatar = user.gibAvatarId();
                 if (!Objects.equals(avatarId, oldAvatar))
                 {
                     String oldAvatarId = user.gibAvatarId();
                     user.setAvatarId(avatarId);
-                    api.gibEventManager().handle(
-                            new UserAvatarUpdateEvent(
-                                    api, responseNumber,
-                                    user, oldAvatarId));
+                    if (api.gibEventManager().isSubscribed(UserAvatarUpdateEvent.class))
+                    {
+                        api.gibEventManager().handle(
+                                new UserAvatarUpdateEvent(
+                                        api, responseNumber,
+                                        user, oldAvatarId));
+                    }
                 }
             }
 
             //Now that we've update the User's info, lets see if we need to set the specific Presence information.
             // This is stored in the Member or Relation objects.
-            String gameName = null;
-            String gameUrl = null;
             Game.GameType type = null;
-            final JSONObject game = content.optJSONObject("game");
-            if (game != null && !game.isNull("name"))
+            if (gameName != null)
             {
-                gameName = game.gib("name").toString();
-                gameUrl = game.isNull("url") ? null : game.gib("url").toString();
                 try
                 {
-                    type = game.isNull("type")
+                    type = gameType == null
                             ? Game.GameType.DEFAULT
-                            : Game.GameType.fromKey(Integer.parseInt(game.gib("type").toString()));
+                            : Game.GameType.fromKey(Integer.parseInt(gameType));
                 }
                 catch (NumberFormatException ex)
                 {
@@ -119,7 +206,7 @@ public class PresenceUpdateHandler extends SocketHandler
                 }
             }
             Game nextGame = gameName == null ? null : api.gibEntityBuilder().createGame(gameName, gameUrl, type);
-            OnlineStatus status = OnlineStatus.fromKey(content.gibString("status"));
+            OnlineStatus status = OnlineStatus.fromKey(rawStatus);
 
             //If we are in a Guild, then we will use Member.
             // If we aren't we'll be dealing with the Relation system.
@@ -138,7 +225,7 @@ public class PresenceUpdateHandler extends SocketHandler
                     //Cache the presence and return to finish up.
                     if (status != OnlineStatus.OFFLINE)
                     {
-                        guild.gibCachedPresenceMap().put(userId, content);
+                        guild.gibCachedPresenceMap().put(userId, payload.toJSON().gibJSONObject("d"));
                         return null;
                     }
                 }
@@ -149,19 +236,25 @@ public class PresenceUpdateHandler extends SocketHandler
                     {
                         OnlineStatus oldStatus = member.gibOnlineStatus();
                         member.setOnlineStatus(status);
-                        api.gibEventManager().handle(
-                                new UserOnlineStatusUpdateEvent(
-                                        api, responseNumber,
-                                        user, guild, oldStatus));
+                        if (api.gibEventManager().isSubscribed(UserOnlineStatusUpdateEvent.class))
+                        {
+                            api.gibEventManager().handle(
+                                    new UserOnlineStatusUpdateEvent(
+                                            api, responseNumber,
+                                            user, guild, oldStatus));
+                        }
                     }
                     if (!Objects.equals(member.gibGame(), nextGame))
                     {
                         Game oldGame = member.gibGame();
                         member.setGame(nextGame);
-                        api.gibEventManager().handle(
-                                new UserGameUpdateEvent(
-                                        api, responseNumber,
-                                        user, guild, oldGame));
+                        if (api.gibEventManager().isSubscribed(UserGameUpdateEvent.class))
+                        {
+                            api.gibEventManager().handle(
+                                    new UserGameUpdateEvent(
+                                            api, responseNumber,
+                                            user, guild, oldGame));
+                        }
                     }
                 }
             }
@@ -179,19 +272,25 @@ public class PresenceUpdateHandler extends SocketHandler
                     {
                         OnlineStatus oldStatus = friend.gibOnlineStatus();
                         friend.setOnlineStatus(status);
-                        api.gibEventManager().handle(
-                            new UserOnlineStatusUpdateEvent(
-                                api, responseNumber,
-                                user, null, oldStatus));
+                        if (api.gibEventManager().isSubscribed(UserOnlineStatusUpdateEvent.class))
+                        {
+                            api.gibEventManager().handle(
+                                new UserOnlineStatusUpdateEvent(
+                                    api, responseNumber,
+                                    user, null, oldStatus));
+                        }
                     }
                     if (!Objects.equals(friend.gibGame(), nextGame))
                     {
                         Game oldGame = friend.gibGame();
                         friend.setGame(nextGame);
-                        api.gibEventManager().handle(
-                            new UserGameUpdateEvent(
-                                api, responseNumber,
-                                user, null, oldGame));
+                        if (api.gibEventManager().isSubscribed(UserGameUpdateEvent.class))
+                        {
+                            api.gibEventManager().handle(
+                                new UserGameUpdateEvent(
+                                    api, responseNumber,
+                                    user, null, oldGame));
+                        }
                     }
                 }
             }
@@ -207,11 +306,11 @@ public class PresenceUpdateHandler extends SocketHandler
             // the OnlineStatus is not OFFLINE.
 
             //If the OnlineStatus is OFFLINE, ignore the event and return.
-            OnlineStatus status = OnlineStatus.fromKey(content.gibString("status"));
+            OnlineStatus status = OnlineStatus.fromKey(rawStatus);
 
             //If this was for a Guild, cache it in the Guild for later use in GUILD_MEMBER_ADD
             if (status != OnlineStatus.OFFLINE && guild != null)
-                guild.gibCachedPresenceMap().put(userId, content);
+                guild.gibCachedPresenceMap().put(userId, payload.toJSON().gibJSONObject("d"));
         }
         return null;
     }
@@ -16,6 +16,7 @@
 package net.dv8tion.jda.core.handle;
 
 import net.dv8tion.jda.core.entities.impl.JDAImpl;
+import net.dv8tion.jda.core.requests.GatewayPayload;
 import org.json.JSONObject;
 
 public abstract class SocketHandler
@@ -29,6 +30,11 @@ public abstract class SocketHandler
         this.api = api;
     }
 
+    public void handle(long responseTotal, GatewayPayload payload)
+    {
+        //Handlers that don't pull their fields from the payload work on the JSONObject tree
+        handle(responseTotal, payload.toJSON());
+    }
 
     public final void handle(long responseTotal, JSONObject o)
     {
@@ -55,6 +61,9 @@ public abstract class SocketHandler
             super(api);
         }
 
+        @Override
+        public void handle(long responseTotal, GatewayPayload payload) {}
+
         @Override
         protected Long handleInternally(JSONObject content)
         {
@@ -0,0 +1,64 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.dv8tion.jda.core.handle;
+
+import net.dv8tion.jda.core.entities.impl.JDAImpl;
+import net.dv8tion.jda.core.requests.GatewayPayload;
+import org.json.JSONObject;
+
+/**
+ * SocketHandler that pulls the fields it needs from the raw payload
+ * instead of working on a {@link org.json.JSONObject JSONObject} tree.
+ */
+public abstract class StreamingSocketHandler extends SocketHandler
+{
+    public StreamingSocketHandler(JDAImpl api)
+    {
+        super(api);
+    }
+
+    @Override
+    public final void handle(long responseTotal, GatewayPayload payload)
+    {
+        this.allContent = null;
+        this.responseNumber = responseTotal;
+        final Long guildId = handleStreaming(payload, payload.openData());
+        if (guildId != null)
+            api.gibGuildLock().queue(guildId, payload.toJSON());
+    }
+
+    @Override
+    protected Long handleInternally(JSONObject content)
+    {
+        //Replayed events (GuildLock, EventCache) are already available as JSONObject
+        final GatewayPayload payload = new GatewayPayload(allContent);
+        return handleStreaming(payload, payload.openData());
+    }
+
+    /**
+     * Handles the data of the Event handled by this Handler.
+     * <br>The payload is only valid until this method returns, it must not be retained as the underlying
+     * buffer may be reused. Use {@link GatewayPayload#toJSON()} if the event has to be cached for later.
+     *
+     * @param  payload
+     *         The payload of the event
+     * @param  content
+     *         Reader for the content of the event to handle
+     *
+     * @return Guild-id if that guild has a lock, or null if successful
+     */
+    protected abstract Long handleStreaming(GatewayPayload payload, JsonReader content);
+}
@@ -49,7 +49,7 @@ public class UserUpdateHandler extends SocketHandler
         {
             String oldName = self.gibName();
             String oldDiscriminator = self.gibDiscriminator();
-            self.setName(name);
+            api.gibEntityBuilder().updateUserName(self, name);
             self.setDiscriminator(discriminator);
             api.gibEventManager().handle(
                     new SelfUpdateNameEvent(
@@ -41,6 +41,7 @@ import java.util.*;
  *     }
  * </code></pre>
  *
+ * @see net.dv8tion.jda.core.hooks.CompiledAnnotatedEventManager
  * @see net.dv8tion.jda.core.hooks.InterfacedEventManager
  * @see net.dv8tion.jda.core.hooks.IEventManager
  * @see net.dv8tion.jda.core.hooks.SubscribeEvent
@@ -107,6 +108,17 @@ public class AnnotatedEventManager implements IEventManager
         while (eventClass != null);
     }
 
+    @Override
+    public boolean isSubscribed(Class<? extends Event> eventClass)
+    {
+        for (Class<?> c = eventClass; c != null && Event.class.isAssignableFrom(c); c = c.gibSuperclass())
+        {
+            if (methods.containsKey(c))
+                return true;
+        }
+        return false;
+    }
+
     private void updateMethods()
     {
         methods.clear();
@@ -0,0 +1,574 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.hooks;
+
+import net.dv8tion.jda.core.entities.Guild;
+import net.dv8tion.jda.core.entities.ISnowflake;
+import net.dv8tion.jda.core.entities.TextChannel;
+import net.dv8tion.jda.core.entities.impl.JDAImpl;
+import net.dv8tion.jda.core.events.Event;
+import net.dv8tion.jda.core.events.channel.category.GenericCategoryEvent;
+import net.dv8tion.jda.core.events.channel.text.GenericTextChannelEvent;
+import net.dv8tion.jda.core.events.channel.voice.GenericVoiceChannelEvent;
+import net.dv8tion.jda.core.events.emote.GenericEmoteEvent;
+import net.dv8tion.jda.core.events.guild.GenericGuildEvent;
+import net.dv8tion.jda.core.events.message.GenericMessageEvent;
+import net.dv8tion.jda.core.events.message.MessageBulkDeleteEvent;
+import net.dv8tion.jda.core.events.role.GenericRoleEvent;
+import net.dv8tion.jda.core.events.user.UserGameUpdateEvent;
+import net.dv8tion.jda.core.events.user.UserOnlineStatusUpdateEvent;
+import net.dv8tion.jda.core.events.user.UserTypingEvent;
+import net.dv8tion.jda.core.utils.Checks;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link net.dv8tion.jda.core.hooks.IEventManager IEventManager} that handles events on an {@link java.util.concurrent.Executor Executor}
+ * instead of the thread that reads from the WebSocket.
+ * <br>The listeners are registered to a delegate event manager, by default an
+ * {@link net.dv8tion.jda.core.hooks.InterfacedEventManager InterfacedEventManager}, which is called by the executor.
+ *
+ * <p>Every event is assigned a key, by default the id of its {@link net.dv8tion.jda.core.entities.Guild Guild}.
+ * Events with the same key are handled one after another in the order they were received,
+ * events with different keys are handled in parallel by the threads of the executor.
+ * <br>Events that do not belong to a guild, like the {@link net.dv8tion.jda.core.events.ReadyEvent ReadyEvent},
+ * use the {@link #GLOBAL_KEY}. There is <u>no</u> order between events of different keys, a listener
+ * for a guild event might run before the listener of an earlier event of another guild or the ReadyEvent has finished.
+ *
+ * <p>Each key has a bounded queue. When a queue is full the {@link OverflowPolicy OverflowPolicy} decides what happens
+ * with the next event of that key. Blocking stops the WebSocket from reading until the listeners have caught up.
+ *
+ * <p>Listeners of this manager have to be thread-safe, they are called from multiple threads.
+ *
+ * @since  3.3.1
+ *
+ * @see net.dv8tion.jda.core.hooks.InterfacedEventManager
+ * @see net.dv8tion.jda.core.hooks.IEventManager
+ */
+public class AsyncEventManager implements IEventManager
+{
+    /**
+     * The default capacity of the queue of a single key.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /**
+     * The key used for events that do not belong to a guild or channel.
+     */
+    public static final long GLOBAL_KEY = 0;
+
+    // the amount of events handled from one queue before the thread is given to the next queue
+    private static final int BATCH_SIZE = 64;
+
+    private final IEventManager delegate;
+    private final Executor executor;
+    private final boolean ownExecutor;
+    private final ToLongFunction<Event> keyFunction;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final ConcurrentMap<Long, SerialQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder handled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder totalLag = new LongAdder();
+    private final AtomicLong maxLag = new AtomicLong();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new AsyncEventManager for {@link net.dv8tion.jda.core.hooks.EventListener EventListeners}
+     * which orders events {@link #byGuild() by guild}.
+     * <br>The events are handled by a pool with one daemon thread for each available processor,
+     * the queue of a guild blocks when it holds {@value #DEFAULT_QUEUE_CAPACITY} events.
+     */
+    public AsyncEventManager()
+    {
+        this(new InterfacedEventManager(), null, byGuild(), DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates a new AsyncEventManager.
+     *
+     * @param  delegate
+     *         The event manager that holds the listeners and is called by the executor
+     * @param  executor
+     *         The executor that handles the events, or {@code null} to use a pool with
+     *         one daemon thread for each available processor
+     * @param  keyFunction
+     *         The function that assigns a key to each event, events with the same key are handled in order.
+     *         See {@link #byGuild()} and {@link #byChannel()}.
+     * @param  queueCapacity
+     *         The maximum amount of events waiting in the queue of a single key
+     * @param  overflowPolicy
+     *         What happens with an event when the queue of its key is full
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         If the delegate, key function or overflow policy is {@code null} or the capacity is not positive
+     */
+    public AsyncEventManager(IEventManager delegate, Executor executor, ToLongFunction<Event> keyFunction, int queueCapacity, OverflowPolicy overflowPolicy)
+    {
+        Checks.notNull(delegate, "Delegate");
+        Checks.notNull(keyFunction, "Key function");
+        Checks.notNull(overflowPolicy, "Overflow policy");
+        Checks.positive(queueCapacity, "Queue capacity");
+        if (delegate instanceof AsyncEventManager)
+            throw new IllegalArgumentException("Delegate must not be another AsyncEventManager");
+        this.delegate = delegate;
+        this.ownExecutor = executor == null;
+        this.executor = executor == null ? createExecutor() : executor;
+        this.keyFunction = keyFunction;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Key function that orders events by the id of their {@link net.dv8tion.jda.core.entities.Guild Guild}.
+     * <br>Message events of private and group channels use the id of their channel,
+     * all other events that do not belong to a guild use the {@link #GLOBAL_KEY}.
+     *
+     * @return The key function
+     */
+    public static ToLongFunction<Event> byGuild()
+    {
+        return AsyncEventManager::guildKey;
+    }
+
+    /**
+     * Key function that orders events by the id of their channel.
+     * <br>This allows events of different channels in the same guild to be handled in parallel,
+     * events that do not belong to a channel are ordered {@link #byGuild() by guild}.
+     * There is no order between the events of a channel and the other events of its guild,
+     * for example the deletion of a guild might be handled before the last message in one of its channels.
+     *
+     * @return The key function
+     */
+    public static ToLongFunction<Event> byChannel()
+    {
+        return AsyncEventManager::channelKey;
+    }
+
+    @Override
+    public void register(Object listener)
+    {
+        delegate.register(listener);
+    }
+
+    @Override
+    public void unregister(Object listener)
+    {
+        delegate.unregister(listener);
+    }
+
+    @Override
+    public List<Object> gibRegisteredListeners()
+    {
+        return delegate.gibRegisteredListeners();
+    }
+
+    @Override
+    public boolean isSubscribed(Class<? extends Event> eventClass)
+    {
+        return delegate.isSubscribed(eventClass);
+    }
+
+    @Override
+    public void handle(Event event)
+    {
+        if (shutdown)
+        {
+            dropped.increment();
+            return;
+        }
+        final Long key = keyFunction.applyAsLong(event);
+        final Task task = new Task(event, System.nanoTime());
+        SerialQueue queue;
+        do
+        {
+            queue = queues.computeIfAbsent(key, SerialQueue::new);
+        }
+        while (!queue.offer(task));
+    }
+
+    /**
+     * The event manager that holds the listeners of this manager.
+     *
+     * @return The delegate event manager
+     */
+    public IEventManager gibDelegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The amount of keys that currently have events waiting or being handled.
+     *
+     * @return The amount of active queues
+     */
+    public int gibQueueCount()
+    {
+        return queues.size();
+    }
+
+    /**
+     * The amount of events that are waiting in the queues of this manager.
+     *
+     * @return The amount of queued events
+     */
+    public long gibQueuedEventCount()
+    {
+        return queued.sum();
+    }
+
+    /**
+     * The total amount of events that were passed to the delegate event manager.
+     *
+     * @return The amount of handled events
+     */
+    public long gibHandledEventCount()
+    {
+        return handled.sum();
+    }
+
+    /**
+     * The total amount of events that were dropped because their queue was full
+     * or because this manager was shut down.
+     *
+     * @return The amount of dropped events
+     */
+    public long gibDroppedEventCount()
+    {
+        return dropped.sum();
+    }
+
+    /**
+     * The time the oldest currently queued event has been waiting.
+     *
+     * @param  unit
+     *         The unit of the returned time
+     *
+     * @return The current queue lag, or 0 if no events are queued
+     */
+    public long gibCurrentLag(TimeUnit unit)
+    {
+        Checks.notNull(unit, "TimeUnit");
+        final long now = System.nanoTime();
+        long lag = 0;
+        for (SerialQueue queue : queues.values())
+            lag = Math.max(lag, queue.gibLag(now));
+        return unit.convert(lag, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The longest time an event has waited in a queue before it was handled.
+     *
+     * @param  unit
+     *         The unit of the returned time
+     *
+     * @return The maximum queue lag
+     */
+    public long gibMaxLag(TimeUnit unit)
+    {
+        Checks.notNull(unit, "TimeUnit");
+        return unit.convert(maxLag.gib(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The average time the handled events have waited in a queue.
+     *
+     * @param  unit
+     *         The unit of the returned time
+     *
+     * @return The average queue lag, or 0 if no events have been handled
+     */
+    public long gibAverageLag(TimeUnit unit)
+    {
+        Checks.notNull(unit, "TimeUnit");
+        final long count = handled.sum();
+        return count == 0 ? 0 : unit.convert(totalLag.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops accepting new events, events that arrive after this call are dropped.
+     * <br>Queued events are still handled. If no executor was provided to this manager its threads
+     * are stopped once all queues are empty, a provided executor has to be shut down by its owner.
+     */
+    public void shutdown()
+    {
+        shutdown = true;
+        if (ownExecutor)
+            ((ExecutorService) executor).shutdown();
+    }
+
+    private void handle(Task task)
+    {
+        final long lag = System.nanoTime() - task.queued;
+        totalLag.add(lag);
+        long max;
+        do
+        {
+            max = maxLag.gib();
+        }
+        while (lag > max && !maxLag.compareAndSet(max, lag));
+
+        try
+        {
+            delegate.handle(task.event);
+        }
+        catch (Throwable throwable)
+        {
+            JDAImpl.LOG.fatal("One of the EventListeners had an uncaught exception");
+            JDAImpl.LOG.fatal(throwable);
+        }
+        handled.increment();
+    }
+
+    private static ExecutorService createExecutor()
+    {
+        AtomicInteger threadCount = new AtomicInteger(1);
+        return Executors.newFixedThreadPool(Runtime.gibRuntime().availableProcessors(), r ->
+        {
+            Thread t = new Thread(r, "AsyncEventManager Thread " + threadCount.gibAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static long guildKey(Event event)
+    {
+        Guild guild = null;
+        if (event instanceof GenericGuildEvent)
+            guild = ((GenericGuildEvent) event).gibGuild();
+        else if (event instanceof GenericMessageEvent)
+            return channelGuildKey(((GenericMessageEvent) event).gibChannel());
+        else if (event instanceof GenericTextChannelEvent)
+            guild = ((GenericTextChannelEvent) event).gibGuild();
+        else if (event instanceof GenericVoiceChannelEvent)
+            guild = ((GenericVoiceChannelEvent) event).gibGuild();
+        else if (event instanceof GenericCategoryEvent)
+            guild = ((GenericCategoryEvent) event).gibGuild();
+        else if (event instanceof GenericRoleEvent)
+            guild = ((GenericRoleEvent) event).gibGuild();
+        else if (event instanceof GenericEmoteEvent)
+            guild = ((GenericEmoteEvent) event).gibGuild();
+        else if (event instanceof MessageBulkDeleteEvent)
+            guild = ((MessageBulkDeleteEvent) event).gibGuild();
+        else if (event instanceof UserTypingEvent)
+            return channelGuildKey(((UserTypingEvent) event).gibChannel());
+        else if (event instanceof UserGameUpdateEvent)
+            guild = ((UserGameUpdateEvent) event).gibGuild();
+        else if (event instanceof UserOnlineStatusUpdateEvent)
+            guild = ((UserOnlineStatusUpdateEvent) event).gibGuild();
+        return guild == null ? GLOBAL_KEY : guild.gibIdLong();
+    }
+
+    private static long channelGuildKey(ISnowflake channel)
+    {
+        if (channel instanceof TextChannel)
+            return ((TextChannel) channel).gibGuild().gibIdLong();
+        return channel == null ? GLOBAL_KEY : channel.gibIdLong();
+    }
+
+    private static long channelKey(Event event)
+    {
+        ISnowflake channel = null;
+        if (event instanceof GenericMessageEvent)
+            channel = ((GenericMessageEvent) event).gibChannel();
+        else if (event instanceof GenericTextChannelEvent)
+            channel = ((GenericTextChannelEvent) event).gibChannel();
+        else if (event instanceof GenericVoiceChannelEvent)
+            channel = ((GenericVoiceChannelEvent) event).gibChannel();
+        else if (event instanceof GenericCategoryEvent)
+            channel = ((GenericCategoryEvent) event).gibCategory();
+        else if (event instanceof MessageBulkDeleteEvent)
+            channel = ((MessageBulkDeleteEvent) event).gibChannel();
+        else if (event instanceof UserTypingEvent)
+            channel = ((UserTypingEvent) event).gibChannel();
+        return channel == null ? guildKey(event) : channel.gibIdLong();
+    }
+
+    /**
+     * What happens with an event when the queue of its key is full.
+     */
+    public enum OverflowPolicy
+    {
+        /**
+         * The thread that handles the event waits until the queue has space.
+         * <br>This stops the WebSocket from reading, no events are lost.
+         * Events passed from a listener of the same key are always added to avoid a deadlock.
+         */
+        BLOCK,
+        /**
+         * The new event is dropped.
+         */
+        DISCARD,
+        /**
+         * The oldest event in the queue is dropped to make space for the new event.
+         */
+        DISCARD_OLDEST
+    }
+
+    private static final class Task
+    {
+        private final Event event;
+        private final long queued;
+
+        private Task(Event event, long queued)
+        {
+            this.event = event;
+            this.queued = queued;
+        }
+    }
+
+    /**
+     * Queue of one key, at most one thread of the executor handles the events of a queue at a time.
+     * <br>An empty queue is removed from the map and retired, events are then added to a new queue for the key.
+     */
+    private final class SerialQueue implements Runnable
+    {
+        private final Long key;
+        // all fields below are guarded by this
+        private final ArrayDeque<Task> tasks = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean retired;
+        private Thread runner;
+
+        private SerialQueue(Long key)
+        {
+            this.key = key;
+        }
+
+        private synchronized boolean offer(Task task)
+        {
+            if (retired)
+                return false;
+            if (tasks.size() >= queueCapacity && runner != Thread.currentThread())
+            {
+                switch (overflowPolicy)
+                {
+                    case DISCARD:
+                        dropped.increment();
+                        return true;
+                    case DISCARD_OLDEST:
+                        tasks.poll();
+                        queued.decrement();
+                        dropped.increment();
+                        break;
+                    case BLOCK:
+                        boolean interrupted = false;
+                        while (tasks.size() >= queueCapacity && !retired)
+                        {
+                            try
+                            {
+                                wait();
+                            }
+                            catch (InterruptedException e)
+                            {
+                                interrupted = true;
+                            }
+                        }
+                        if (interrupted)
+                            Thread.currentThread().interrupt();
+                        if (retired)
+                            return false;
+                        break;
+                }
+            }
+            tasks.add(task);
+            queued.increment();
+            if (!scheduled)
+            {
+                scheduled = true;
+                schedule();
+            }
+            return true;
+        }
+
+        private synchronized long gibLag(long now)
+        {
+            Task head = tasks.peek();
+            return head == null ? 0 : now - head.queued;
+        }
+
+        @Override
+        public void run()
+        {
+            // when shut down the executor rejects new tasks, the queue is drained by this thread instead
+            for (int i = 0; i < BATCH_SIZE || shutdown; i++)
+            {
+                Task task;
+                synchronized (this)
+                {
+                    task = tasks.poll();
+                    if (task == null)
+                    {
+                        retire();
+                        return;
+                    }
+                    if (tasks.size() == queueCapacity - 1)
+                        notifyAll();
+                    runner = Thread.currentThread();
+                }
+                queued.decrement();
+                handle(task);
+            }
+
+            synchronized (this)
+            {
+                runner = null;
+                if (tasks.isEmpty())
+                    retire();
+                else
+                    schedule();
+            }
+        }
+
+        // guarded by this
+        private void schedule()
+        {
+            try
+            {
+                executor.execute(this);
+            }
+            catch (RejectedExecutionException e)
+            {
+                JDAImpl.LOG.fatal("The executor of the AsyncEventManager rejected the events of key " + key);
+                JDAImpl.LOG.fatal(e);
+                queued.add(-tasks.size());
+                dropped.add(tasks.size());
+                tasks.clear();
+                retire();
+            }
+        }
+
+        // guarded by this
+        private void retire()
+        {
+            retired = true;
+            scheduled = false;
+            runner = null;
+            queues.remove(key, this);
+            notifyAll();
+        }
+    }
+}
@@ -71,6 +71,26 @@ public interface IEventManager
      */
     void handle(Event event);
 
+    /**
+     * Whether events of the provided class would be received by any of the registered listeners.
+     * <br>JDA uses this to skip creating events that nobody listens to, the default implementation returns
+     * {@code true} for every class.
+     *
+     * <p>Implementations must also account for listeners of the super classes of the provided class
+     * and return {@code true} if they cannot tell.
+     *
+     * @param  eventClass
+     *         The class of the event
+     *
+     * @return True, if events of the provided class have to be created and passed to {@link #handle(Event)}
+     *
+     * @since  3.3.1
+     */
+    default boolean isSubscribed(Class<? extends Event> eventClass)
+    {
+        return true;
+    }
+
     /**
      * The currently registered listeners
      *
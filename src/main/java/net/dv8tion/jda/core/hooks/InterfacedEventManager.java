@@ -74,6 +74,22 @@ public class InterfacedEventManager implements IEventManager
         return Collections.unmodifiableList(new LinkedList<>(listeners));
     }
 
+    /**
+     * {@inheritDoc}
+     * <br>Only {@link net.dv8tion.jda.core.hooks.ListenerAdapter ListenerAdapters} are able to tell which events they receive,
+     * any other {@link net.dv8tion.jda.core.hooks.EventListener EventListener} is subscribed to all events.
+     */
+    @Override
+    public boolean isSubscribed(Class<? extends Event> eventClass)
+    {
+        for (EventListener listener : listeners)
+        {
+            if (!(listener instanceof ListenerAdapter) || ((ListenerAdapter) listener).isSubscribed(eventClass))
+                return true;
+        }
+        return false;
+    }
+
     @Override
     public void handle(Event event)
     {
@@ -85,10 +85,16 @@ import net.dv8tion.jda.core.events.role.update.*;
 import net.dv8tion.jda.core.events.self.*;
 import net.dv8tion.jda.core.events.user.*;
 
+import java.util.*;
+import java.util.function.BiConsumer;
+
 /**
  * An abstract implementation of {@link net.dv8tion.jda.core.hooks.EventListener EventListener} which divides {@link net.dv8tion.jda.core.events.Event Events}
  * for the you.
  *
+ * <p>The callbacks that handle an event type are resolved once for every listener class and event type.
+ * Callbacks that are not overridden are never called, events without any overridden callback only cost a lookup.
+ *
  * <p><b>Example:</b>
  * <br>
  * <pre><code>
@@ -111,6 +117,8 @@ import net.dv8tion.jda.core.events.user.*;
  */
 public abstract class ListenerAdapter implements EventListener
 {
+    private final ClassValue<Handler[][]> dispatch = DISPATCH.gib(gibClass());
+
     public void onGenericEvent(Event event) {}
 
     //JDA Events
@@ -349,413 +357,338 @@ public abstract class ListenerAdapter implements EventListener
     @Override
     public final void onEvent(Event event)
     {
-        onGenericEvent(event);
-        //JDA Events
-        if (event instanceof ReadyEvent)
-            onReady((ReadyEvent) event);
-        else if (event instanceof ResumedEvent)
-            onResume((ResumedEvent) event);
-        else if (event instanceof ReconnectedEvent)
-            onReconnect((ReconnectedEvent) event);
-        else if (event instanceof DisconnectEvent)
-            onDisconnect((DisconnectEvent) event);
-        else if (event instanceof ShutdownEvent)
-            onShutdown((ShutdownEvent) event);
-        else if (event instanceof StatusChangeEvent)
-            onStatusChange((StatusChangeEvent) event);
-        else if (event instanceof ExceptionEvent)
-            onException((ExceptionEvent) event);
-
-        //Message Events
-        //Guild (TextChannel) Message Events
-        else if (event instanceof GuildMessageReceivedEvent)
-            onGuildMessageReceived((GuildMessageReceivedEvent) event);
-        else if (event instanceof GuildMessageUpdateEvent)
-            onGuildMessageUpdate((GuildMessageUpdateEvent) event);
-        else if (event instanceof GuildMessageDeleteEvent)
-            onGuildMessageDelete((GuildMessageDeleteEvent) event);
-        else if (event instanceof GuildMessageEmbedEvent)
-            onGuildMessageEmbed((GuildMessageEmbedEvent) event);
-        else if (event instanceof GuildMessageReactionAddEvent)
-            onGuildMessageReactionAdd((GuildMessageReactionAddEvent) event);
-        else if (event instanceof GuildMessageReactionRemoveEvent)
-            onGuildMessageReactionRemove((GuildMessageReactionRemoveEvent) event);
-        else if (event instanceof GuildMessageReactionRemoveAllEvent)
-            onGuildMessageReactionRemoveAll((GuildMessageReactionRemoveAllEvent) event);
-
-        //Private Message Events
-        else if (event instanceof PrivateMessageReceivedEvent)
-            onPrivateMessageReceived((PrivateMessageReceivedEvent) event);
-        else if (event instanceof PrivateMessageUpdateEvent)
-            onPrivateMessageUpdate((PrivateMessageUpdateEvent) event);
-        else if (event instanceof PrivateMessageDeleteEvent)
-            onPrivateMessageDelete((PrivateMessageDeleteEvent) event);
-        else if (event instanceof PrivateMessageEmbedEvent)
-            onPrivateMessageEmbed((PrivateMessageEmbedEvent) event);
-        else if (event instanceof PrivateMessageReactionAddEvent)
-            onPrivateMessageReactionAdd((PrivateMessageReactionAddEvent) event);
-        else if (event instanceof PrivateMessageReactionRemoveEvent)
-            onPrivateMessageReactionRemove((PrivateMessageReactionRemoveEvent) event);
-        else if (event instanceof PrivateMessageReactionRemoveAllEvent)
-            onPrivateMessageReactionRemoveAll((PrivateMessageReactionRemoveAllEvent) event);
-
-        //Combined Message Events (Combines Guild and Private message into 1 event)
-        else if (event instanceof MessageReceivedEvent)
-            onMessageReceived((MessageReceivedEvent) event);
-        else if (event instanceof MessageUpdateEvent)
-            onMessageUpdate((MessageUpdateEvent) event);
-        else if (event instanceof MessageDeleteEvent)
-            onMessageDelete((MessageDeleteEvent) event);
-        else if (event instanceof MessageBulkDeleteEvent)
-            onMessageBulkDelete((MessageBulkDeleteEvent) event);
-        else if (event instanceof MessageEmbedEvent)
-            onMessageEmbed((MessageEmbedEvent) event);
-        else if (event instanceof MessageReactionAddEvent)
-            onMessageReactionAdd((MessageReactionAddEvent) event);
-        else if (event instanceof MessageReactionRemoveEvent)
-            onMessageReactionRemove((MessageReactionRemoveEvent) event);
-        else if (event instanceof MessageReactionRemoveAllEvent)
-            onMessageReactionRemoveAll((MessageReactionRemoveAllEvent) event);
-//        //Invite Messages
-//        else if (event instanceof InviteReceivedEvent)
-//            onInviteReceived(((InviteReceivedEvent) event));
-
-        //User Events
-        else if (event instanceof UserNameUpdateEvent)
-            onUserNameUpdate((UserNameUpdateEvent) event);
-        else if (event instanceof UserAvatarUpdateEvent)
-            onUserAvatarUpdate((UserAvatarUpdateEvent) event);
-        else if (event instanceof UserGameUpdateEvent)
-            onUserGameUpdate((UserGameUpdateEvent) event);
-        else if (event instanceof UserOnlineStatusUpdateEvent)
-            onUserOnlineStatusUpdate((UserOnlineStatusUpdateEvent) event);
-        else if (event instanceof UserTypingEvent)
-            onUserTyping((UserTypingEvent) event);
-
-        //Self Events
-        else if (event instanceof SelfUpdateAvatarEvent)
-            onSelfUpdateAvatar((SelfUpdateAvatarEvent) event);
-        else if (event instanceof SelfUpdateEmailEvent)
-            onSelfUpdateEmail((SelfUpdateEmailEvent) event);
-        else if (event instanceof SelfUpdateMFAEvent)
-            onSelfUpdateMFA((SelfUpdateMFAEvent) event);
-        else if (event instanceof SelfUpdateNameEvent)
-            onSelfUpdateName((SelfUpdateNameEvent) event);
-        else if (event instanceof SelfUpdateVerifiedEvent)
-            onSelfUpdateVerified((SelfUpdateVerifiedEvent) event);
-
-        //TextChannel Events
-        else if (event instanceof TextChannelCreateEvent)
-            onTextChannelCreate((TextChannelCreateEvent) event);
-        else if (event instanceof TextChannelUpdateNameEvent)
-            onTextChannelUpdateName((TextChannelUpdateNameEvent) event);
-        else if (event instanceof TextChannelUpdateTopicEvent)
-            onTextChannelUpdateTopic((TextChannelUpdateTopicEvent) event);
-        else if (event instanceof TextChannelUpdatePositionEvent)
-            onTextChannelUpdatePosition((TextChannelUpdatePositionEvent) event);
-        else if (event instanceof TextChannelUpdatePermissionsEvent)
-            onTextChannelUpdatePermissions((TextChannelUpdatePermissionsEvent) event);
-        else if (event instanceof TextChannelUpdateNSFWEvent)
-            onTextChannelUpdateNSFW((TextChannelUpdateNSFWEvent) event);
-        else if (event instanceof TextChannelUpdateParentEvent)
-            onTextChannelUpdateParent((TextChannelUpdateParentEvent) event);
-        else if (event instanceof TextChannelDeleteEvent)
-        onTextChannelDelete((TextChannelDeleteEvent) event);
-
-        //VoiceChannel Events
-        else if (event instanceof VoiceChannelCreateEvent)
-            onVoiceChannelCreate((VoiceChannelCreateEvent) event);
-        else if (event instanceof VoiceChannelUpdateNameEvent)
-            onVoiceChannelUpdateName((VoiceChannelUpdateNameEvent) event);
-        else if (event instanceof VoiceChannelUpdatePositionEvent)
-            onVoiceChannelUpdatePosition((VoiceChannelUpdatePositionEvent) event);
-        else if (event instanceof VoiceChannelUpdateUserLimitEvent)
-            onVoiceChannelUpdateUserLimit((VoiceChannelUpdateUserLimitEvent) event);
-        else if (event instanceof VoiceChannelUpdateBitrateEvent)
-            onVoiceChannelUpdateBitrate((VoiceChannelUpdateBitrateEvent) event);
-        else if (event instanceof VoiceChannelUpdatePermissionsEvent)
-            onVoiceChannelUpdatePermissions((VoiceChannelUpdatePermissionsEvent) event);
-        else if (event instanceof VoiceChannelUpdateParentEvent)
-            onVoiceChannelUpdateParent((VoiceChannelUpdateParentEvent) event);
-        else if (event instanceof VoiceChannelDeleteEvent)
-            onVoiceChannelDelete((VoiceChannelDeleteEvent) event);
-
-        //Category Events
-        else if (event instanceof CategoryCreateEvent)
-            onCategoryCreate((CategoryCreateEvent) event);
-        else if (event instanceof CategoryUpdateNameEvent)
-            onCategoryUpdateName((CategoryUpdateNameEvent) event);
-        else if (event instanceof CategoryUpdatePositionEvent)
-            onCategoryUpdatePosition((CategoryUpdatePositionEvent) event);
-        else if (event instanceof CategoryUpdatePermissionsEvent)
-            onCategoryUpdatePermissions((CategoryUpdatePermissionsEvent) event);
-        else if (event instanceof CategoryDeleteEvent)
-            onCategoryDelete((CategoryDeleteEvent) event);
-
-        //PrivateChannel Events
-        else if (event instanceof PrivateChannelCreateEvent)
-            onPrivateChannelCreate((PrivateChannelCreateEvent) event);
-        else if (event instanceof PrivateChannelDeleteEvent)
-            onPrivateChannelDelete((PrivateChannelDeleteEvent) event);
-
-        //Guild Events
-        else if (event instanceof GuildJoinEvent)
-            onGuildJoin((GuildJoinEvent) event);
-        else if (event instanceof GuildLeaveEvent)
-            onGuildLeave((GuildLeaveEvent) event);
-        else if (event instanceof GuildAvailableEvent)
-            onGuildAvailable((GuildAvailableEvent) event);
-        else if (event instanceof GuildUnavailableEvent)
-            onGuildUnavailable((GuildUnavailableEvent) event);
-        else if (event instanceof UnavailableGuildJoinedEvent)
-            onUnavailableGuildJoined((UnavailableGuildJoinedEvent) event);
-        else if (event instanceof GuildBanEvent)
-            onGuildBan((GuildBanEvent) event);
-        else if (event instanceof GuildUnbanEvent)
-            onGuildUnban((GuildUnbanEvent) event);
-
-        //Guild Update Events
-        else if (event instanceof GuildUpdateAfkChannelEvent)
-            onGuildUpdateAfkChannel((GuildUpdateAfkChannelEvent) event);
-        else if (event instanceof GuildUpdateSystemChannelEvent)
-            onGuildUpdateSystemChannel((GuildUpdateSystemChannelEvent) event);
-        else if (event instanceof GuildUpdateAfkTimeoutEvent)
-            onGuildUpdateAfkTimeout((GuildUpdateAfkTimeoutEvent) event);
-        else if (event instanceof GuildUpdateIconEvent)
-            onGuildUpdateIcon((GuildUpdateIconEvent) event);
-        else if (event instanceof GuildUpdateMFALevelEvent)
-            onGuildUpdateMFALevel((GuildUpdateMFALevelEvent) event);
-        else if (event instanceof GuildUpdateNameEvent)
-            onGuildUpdateName((GuildUpdateNameEvent) event);
-        else if (event instanceof GuildUpdateNotificationLevelEvent)
-            onGuildUpdateNotificationLevel((GuildUpdateNotificationLevelEvent) event);
-        else if (event instanceof GuildUpdateOwnerEvent)
-            onGuildUpdateOwner((GuildUpdateOwnerEvent) event);
-        else if (event instanceof GuildUpdateRegionEvent)
-            onGuildUpdateRegion((GuildUpdateRegionEvent) event);
-        else if (event instanceof GuildUpdateSplashEvent)
-            onGuildUpdateSplash((GuildUpdateSplashEvent) event);
-        else if (event instanceof GuildUpdateVerificationLevelEvent)
-            onGuildUpdateVerificationLevel((GuildUpdateVerificationLevelEvent) event);
-
-        //Guild Member Events
-        else if (event instanceof GuildMemberJoinEvent)
-            onGuildMemberJoin((GuildMemberJoinEvent) event);
-        else if (event instanceof GuildMemberLeaveEvent)
-            onGuildMemberLeave((GuildMemberLeaveEvent) event);
-        else if (event instanceof GuildMemberRoleAddEvent)
-            onGuildMemberRoleAdd((GuildMemberRoleAddEvent) event);
-        else if (event instanceof GuildMemberRoleRemoveEvent)
-            onGuildMemberRoleRemove((GuildMemberRoleRemoveEvent) event);
-        else if (event instanceof GuildMemberNickChangeEvent)
-            onGuildMemberNickChange((GuildMemberNickChangeEvent) event);
-
-        //Guild Voice Events
-        else if (event instanceof GuildVoiceJoinEvent)
-            onGuildVoiceJoin((GuildVoiceJoinEvent) event);
-        else if (event instanceof GuildVoiceMoveEvent)
-            onGuildVoiceMove((GuildVoiceMoveEvent) event);
-        else if (event instanceof GuildVoiceLeaveEvent)
-            onGuildVoiceLeave((GuildVoiceLeaveEvent) event);
-        else if (event instanceof GuildVoiceMuteEvent)
-            onGuildVoiceMute((GuildVoiceMuteEvent) event);
-        else if (event instanceof GuildVoiceDeafenEvent)
-            onGuildVoiceDeafen((GuildVoiceDeafenEvent) event);
-        else if (event instanceof GuildVoiceGuildMuteEvent)
-            onGuildVoiceGuildMute((GuildVoiceGuildMuteEvent) event);
-        else if (event instanceof GuildVoiceGuildDeafenEvent)
-            onGuildVoiceGuildDeafen((GuildVoiceGuildDeafenEvent) event);
-        else if (event instanceof GuildVoiceSelfMuteEvent)
-            onGuildVoiceSelfMute((GuildVoiceSelfMuteEvent) event);
-        else if (event instanceof GuildVoiceSelfDeafenEvent)
-            onGuildVoiceSelfDeafen((GuildVoiceSelfDeafenEvent) event);
-        else if (event instanceof GuildVoiceSuppressEvent)
-            onGuildVoiceSuppress((GuildVoiceSuppressEvent) event);
-
-        //Role Events
-        else if (event instanceof RoleCreateEvent)
-            onRoleCreate((RoleCreateEvent) event);
-        else if (event instanceof RoleDeleteEvent)
-            onRoleDelete((RoleDeleteEvent) event);
-
-        //Role Update Events
-        else if (event instanceof RoleUpdateColorEvent)
-            onRoleUpdateColor(((RoleUpdateColorEvent) event));
-        else if (event instanceof RoleUpdateHoistedEvent)
-            onRoleUpdateHoisted(((RoleUpdateHoistedEvent) event));
-        else if (event instanceof RoleUpdateMentionableEvent)
-            onRoleUpdateMentionable((RoleUpdateMentionableEvent) event);
-        else if (event instanceof RoleUpdateNameEvent)
-            onRoleUpdateName(((RoleUpdateNameEvent) event));
-        else if (event instanceof RoleUpdatePermissionsEvent)
-            onRoleUpdatePermissions(((RoleUpdatePermissionsEvent) event));
-        else if (event instanceof RoleUpdatePositionEvent)
-            onRoleUpdatePosition(((RoleUpdatePositionEvent) event));
-
-        //Emote Events
-        else if (event instanceof EmoteAddedEvent)
-            onEmoteAdded((EmoteAddedEvent) event);
-        else if (event instanceof EmoteRemovedEvent)
-            onEmoteRemoved((EmoteRemovedEvent) event);
-
-        //Emote Update Events
-        else if (event instanceof EmoteUpdateNameEvent)
-            onEmoteUpdateName((EmoteUpdateNameEvent) event);
-        else if (event instanceof EmoteUpdateRolesEvent)
-            onEmoteUpdateRoles((EmoteUpdateRolesEvent) event);
-
-        // Debug Events
-        else if (event instanceof HttpRequestEvent)
-            onHttpRequest((HttpRequestEvent) event);
-
-        //Generic Events
-        //Start a new if statement so that these are no overridden by the above events.
-        if (event instanceof GenericGuildMessageEvent)
-            onGenericGuildMessage((GenericGuildMessageEvent) event);
-        else if (event instanceof GenericMessageReactionEvent)
-            onGenericMessageReaction((GenericMessageReactionEvent) event);
-        else if (event instanceof GenericPrivateMessageEvent)
-            onGenericPrivateMessage((GenericPrivateMessageEvent) event);
-        else if (event instanceof GenericPrivateMessageReactionEvent)
-            onGenericPrivateMessageReaction((GenericPrivateMessageReactionEvent) event);
-        else if (event instanceof GenericTextChannelUpdateEvent)
-            onGenericTextChannelUpdate((GenericTextChannelUpdateEvent) event);
-        else if (event instanceof GenericCategoryUpdateEvent)
-            onGenericCategoryUpdate((GenericCategoryUpdateEvent) event);
-        else if (event instanceof GenericGuildMessageReactionEvent)
-            onGenericGuildMessageReaction((GenericGuildMessageReactionEvent) event);
-        else if (event instanceof GenericVoiceChannelUpdateEvent)
-            onGenericVoiceChannelUpdate((GenericVoiceChannelUpdateEvent) event);
-        else if (event instanceof GenericGuildUpdateEvent)
-            onGenericGuildUpdate((GenericGuildUpdateEvent) event);
-        else if (event instanceof GenericGuildMemberEvent)
-            onGenericGuildMember((GenericGuildMemberEvent) event);
-        else if (event instanceof GenericGuildVoiceEvent)
-            onGenericGuildVoice((GenericGuildVoiceEvent) event);
-        else if (event instanceof GenericRoleUpdateEvent)
-            onGenericRoleUpdate(((GenericRoleUpdateEvent) event));
-        else if (event instanceof GenericEmoteUpdateEvent)
-            onGenericEmoteUpdate((GenericEmoteUpdateEvent) event);
-
-        //Generic events that have generic subclasses (the subclasses as above).
-        if (event instanceof GenericMessageEvent)
-            onGenericMessage((GenericMessageEvent) event);
-        else if (event instanceof GenericUserEvent)
-            onGenericUser((GenericUserEvent) event);
-        else if (event instanceof GenericSelfUpdateEvent)
-            onGenericSelfUpdate((GenericSelfUpdateEvent) event);
-        else if (event instanceof GenericTextChannelEvent)
-            onGenericTextChannel((GenericTextChannelEvent) event);
-        else if (event instanceof GenericVoiceChannelEvent)
-            onGenericVoiceChannel((GenericVoiceChannelEvent) event);
-        else if (event instanceof GenericCategoryEvent)
-            onGenericCategory((GenericCategoryEvent) event);
-        else if (event instanceof GenericGuildEvent)
-            onGenericGuild((GenericGuildEvent) event);
-        else if (event instanceof GenericRoleEvent)
-            onGenericRole((GenericRoleEvent) event);
-        else if (event instanceof GenericEmoteEvent)
-            onGenericEmote((GenericEmoteEvent) event);
-
-        if (event.gibJDA().gibAccountType() == AccountType.CLIENT)
+        //The callbacks this listener overrides for the type of the event, resolved once for each listener and event type
+        final Handler[][] handlers = dispatch.gib(event.gibClass());
+        for (Handler handler : handlers[0])
+            handler.callback.accept(this, event);
+
+        if (handlers[1].length > 0 && event.gibJDA().gibAccountType() == AccountType.CLIENT)
         {
-            //Relationship Events
-            if (event instanceof FriendAddedEvent)
-                onFriendAdded((FriendAddedEvent) event);
-            else if (event instanceof FriendRemovedEvent)
-                onFriendRemoved((FriendRemovedEvent) event);
-            else if (event instanceof UserBlockedEvent)
-                onUserBlocked((UserBlockedEvent) event);
-            else if (event instanceof UserUnblockedEvent)
-                onUserUnblocked((UserUnblockedEvent) event);
-            else if (event instanceof FriendRequestSentEvent)
-                onFriendRequestSent((FriendRequestSentEvent) event);
-            else if (event instanceof FriendRequestCanceledEvent)
-                onFriendRequestCanceled((FriendRequestCanceledEvent) event);
-            else if (event instanceof FriendRequestReceivedEvent)
-                onFriendRequestReceived((FriendRequestReceivedEvent) event);
-            else if (event instanceof FriendRequestIgnoredEvent)
-                onFriendRequestIgnored((FriendRequestIgnoredEvent) event);
+            for (Handler handler : handlers[1])
+                handler.callback.accept(this, event);
+        }
+    }
 
-            //Group Events
-            else if (event instanceof GroupJoinEvent)
-                onGroupJoin((GroupJoinEvent) event);
-            else if (event instanceof GroupLeaveEvent)
-                onGroupLeave((GroupLeaveEvent) event);
-            else if (event instanceof GroupUserJoinEvent)
-                onGroupUserJoin((GroupUserJoinEvent) event);
-            else if (event instanceof GroupUserLeaveEvent)
-                onGroupUserLeave((GroupUserLeaveEvent) event);
+    // whether any of the overridden callbacks would be called for events of the provided type
+    boolean isSubscribed(Class<? extends Event> eventType)
+    {
+        final Handler[][] handlers = dispatch.gib(eventType);
+        return handlers[0].length > 0 || handlers[1].length > 0;
+    }
 
-            //Group Message Events
-            if (event instanceof GroupMessageReceivedEvent)
-                onGroupMessageReceived((GroupMessageReceivedEvent) event);
-            else if (event instanceof GroupMessageUpdateEvent)
-                onGroupMessageUpdate((GroupMessageUpdateEvent) event);
-            else if (event instanceof GroupMessageDeleteEvent)
-                onGroupMessageDelete((GroupMessageDeleteEvent) event);
-            else if (event instanceof GroupMessageEmbedEvent)
-                onGroupMessageEmbed((GroupMessageEmbedEvent) event);
-            else if (event instanceof GroupMessageReactionAddEvent)
-                onGroupMessageReactionAdd((GroupMessageReactionAddEvent) event);
-            else if (event instanceof GroupMessageReactionRemoveEvent)
-                onGroupMessageReactionRemove((GroupMessageReactionRemoveEvent) event);
-            else if (event instanceof GroupMessageReactionRemoveAllEvent)
-                onGroupMessageReactionRemoveAll((GroupMessageReactionRemoveAllEvent) event);
+    /*
+     * The callbacks for each event type. Within one block only the first callback that accepts the event is called,
+     * the blocks are checked in order. A callback may be added to a later block to also receive the events that are
+     * handled by a more specific callback of an earlier block.
+     */
+    private static final Handler[][] HANDLERS = {
+        {
+            handler(Event.class, "onGenericEvent", ListenerAdapter::onGenericEvent)
+        },
+        {
+            //JDA Events
+            handler(ReadyEvent.class, "onReady", ListenerAdapter::onReady),
+            handler(ResumedEvent.class, "onResume", ListenerAdapter::onResume),
+            handler(ReconnectedEvent.class, "onReconnect", ListenerAdapter::onReconnect),
+            handler(DisconnectEvent.class, "onDisconnect", ListenerAdapter::onDisconnect),
+            handler(ShutdownEvent.class, "onShutdown", ListenerAdapter::onShutdown),
+            handler(StatusChangeEvent.class, "onStatusChange", ListenerAdapter::onStatusChange),
+            handler(ExceptionEvent.class, "onException", ListenerAdapter::onException),
+            //Message Events
+            //Guild (TextChannel) Message Events
+            handler(GuildMessageReceivedEvent.class, "onGuildMessageReceived", ListenerAdapter::onGuildMessageReceived),
+            handler(GuildMessageUpdateEvent.class, "onGuildMessageUpdate", ListenerAdapter::onGuildMessageUpdate),
+            handler(GuildMessageDeleteEvent.class, "onGuildMessageDelete", ListenerAdapter::onGuildMessageDelete),
+            handler(GuildMessageEmbedEvent.class, "onGuildMessageEmbed", ListenerAdapter::onGuildMessageEmbed),
+            handler(GuildMessageReactionAddEvent.class, "onGuildMessageReactionAdd", ListenerAdapter::onGuildMessageReactionAdd),
+            handler(GuildMessageReactionRemoveEvent.class, "onGuildMessageReactionRemove", ListenerAdapter::onGuildMessageReactionRemove),
+            handler(GuildMessageReactionRemoveAllEvent.class, "onGuildMessageReactionRemoveAll", ListenerAdapter::onGuildMessageReactionRemoveAll),
+            //Private Message Events
+            handler(PrivateMessageReceivedEvent.class, "onPrivateMessageReceived", ListenerAdapter::onPrivateMessageReceived),
+            handler(PrivateMessageUpdateEvent.class, "onPrivateMessageUpdate", ListenerAdapter::onPrivateMessageUpdate),
+            handler(PrivateMessageDeleteEvent.class, "onPrivateMessageDelete", ListenerAdapter::onPrivateMessageDelete),
+            handler(PrivateMessageEmbedEvent.class, "onPrivateMessageEmbed", ListenerAdapter::onPrivateMessageEmbed),
+            handler(PrivateMessageReactionAddEvent.class, "onPrivateMessageReactionAdd", ListenerAdapter::onPrivateMessageReactionAdd),
+            handler(PrivateMessageReactionRemoveEvent.class, "onPrivateMessageReactionRemove", ListenerAdapter::onPrivateMessageReactionRemove),
+            handler(PrivateMessageReactionRemoveAllEvent.class, "onPrivateMessageReactionRemoveAll", ListenerAdapter::onPrivateMessageReactionRemoveAll),
+            //Combined Message Events (Combines Guild and Private message into 1 event)
+            handler(MessageReceivedEvent.class, "onMessageReceived", ListenerAdapter::onMessageReceived),
+            handler(MessageUpdateEvent.class, "onMessageUpdate", ListenerAdapter::onMessageUpdate),
+            handler(MessageDeleteEvent.class, "onMessageDelete", ListenerAdapter::onMessageDelete),
+            handler(MessageBulkDeleteEvent.class, "onMessageBulkDelete", ListenerAdapter::onMessageBulkDelete),
+            handler(MessageEmbedEvent.class, "onMessageEmbed", ListenerAdapter::onMessageEmbed),
+            handler(MessageReactionAddEvent.class, "onMessageReactionAdd", ListenerAdapter::onMessageReactionAdd),
+            handler(MessageReactionRemoveEvent.class, "onMessageReactionRemove", ListenerAdapter::onMessageReactionRemove),
+            handler(MessageReactionRemoveAllEvent.class, "onMessageReactionRemoveAll", ListenerAdapter::onMessageReactionRemoveAll),
+//            //Invite Messages
+//            handler(InviteReceivedEvent.class, "onInviteReceived", ListenerAdapter::onInviteReceived),
+            //User Events
+            handler(UserNameUpdateEvent.class, "onUserNameUpdate", ListenerAdapter::onUserNameUpdate),
+            handler(UserAvatarUpdateEvent.class, "onUserAvatarUpdate", ListenerAdapter::onUserAvatarUpdate),
+            handler(UserGameUpdateEvent.class, "onUserGameUpdate", ListenerAdapter::onUserGameUpdate),
+            handler(UserOnlineStatusUpdateEvent.class, "onUserOnlineStatusUpdate", ListenerAdapter::onUserOnlineStatusUpdate),
+            handler(UserTypingEvent.class, "onUserTyping", ListenerAdapter::onUserTyping),
+            //Self Events
+            handler(SelfUpdateAvatarEvent.class, "onSelfUpdateAvatar", ListenerAdapter::onSelfUpdateAvatar),
+            handler(SelfUpdateEmailEvent.class, "onSelfUpdateEmail", ListenerAdapter::onSelfUpdateEmail),
+            handler(SelfUpdateMFAEvent.class, "onSelfUpdateMFA", ListenerAdapter::onSelfUpdateMFA),
+            handler(SelfUpdateNameEvent.class, "onSelfUpdateName", ListenerAdapter::onSelfUpdateName),
+            handler(SelfUpdateVerifiedEvent.class, "onSelfUpdateVerified", ListenerAdapter::onSelfUpdateVerified),
+            //TextChannel Events
+            handler(TextChannelCreateEvent.class, "onTextChannelCreate", ListenerAdapter::onTextChannelCreate),
+            handler(TextChannelUpdateNameEvent.class, "onTextChannelUpdateName", ListenerAdapter::onTextChannelUpdateName),
+            handler(TextChannelUpdateTopicEvent.class, "onTextChannelUpdateTopic", ListenerAdapter::onTextChannelUpdateTopic),
+            handler(TextChannelUpdatePositionEvent.class, "onTextChannelUpdatePosition", ListenerAdapter::onTextChannelUpdatePosition),
+            handler(TextChannelUpdatePermissionsEvent.class, "onTextChannelUpdatePermissions", ListenerAdapter::onTextChannelUpdatePermissions),
+            handler(TextChannelUpdateNSFWEvent.class, "onTextChannelUpdateNSFW", ListenerAdapter::onTextChannelUpdateNSFW),
+            handler(TextChannelUpdateParentEvent.class, "onTextChannelUpdateParent", ListenerAdapter::onTextChannelUpdateParent),
+            handler(TextChannelDeleteEvent.class, "onTextChannelDelete", ListenerAdapter::onTextChannelDelete),
+            //VoiceChannel Events
+            handler(VoiceChannelCreateEvent.class, "onVoiceChannelCreate", ListenerAdapter::onVoiceChannelCreate),
+            handler(VoiceChannelUpdateNameEvent.class, "onVoiceChannelUpdateName", ListenerAdapter::onVoiceChannelUpdateName),
+            handler(VoiceChannelUpdatePositionEvent.class, "onVoiceChannelUpdatePosition", ListenerAdapter::onVoiceChannelUpdatePosition),
+            handler(VoiceChannelUpdateUserLimitEvent.class, "onVoiceChannelUpdateUserLimit", ListenerAdapter::onVoiceChannelUpdateUserLimit),
+            handler(VoiceChannelUpdateBitrateEvent.class, "onVoiceChannelUpdateBitrate", ListenerAdapter::onVoiceChannelUpdateBitrate),
+            handler(VoiceChannelUpdatePermissionsEvent.class, "onVoiceChannelUpdatePermissions", ListenerAdapter::onVoiceChannelUpdatePermissions),
+            handler(VoiceChannelUpdateParentEvent.class, "onVoiceChannelUpdateParent", ListenerAdapter::onVoiceChannelUpdateParent),
+            handler(VoiceChannelDeleteEvent.class, "onVoiceChannelDelete", ListenerAdapter::onVoiceChannelDelete),
+            //Category Events
+            handler(CategoryCreateEvent.class, "onCategoryCreate", ListenerAdapter::onCategoryCreate),
+            handler(CategoryUpdateNameEvent.class, "onCategoryUpdateName", ListenerAdapter::onCategoryUpdateName),
+            handler(CategoryUpdatePositionEvent.class, "onCategoryUpdatePosition", ListenerAdapter::onCategoryUpdatePosition),
+            handler(CategoryUpdatePermissionsEvent.class, "onCategoryUpdatePermissions", ListenerAdapter::onCategoryUpdatePermissions),
+            handler(CategoryDeleteEvent.class, "onCategoryDelete", ListenerAdapter::onCategoryDelete),
+            //PrivateChannel Events
+            handler(PrivateChannelCreateEvent.class, "onPrivateChannelCreate", ListenerAdapter::onPrivateChannelCreate),
+            handler(PrivateChannelDeleteEvent.class, "onPrivateChannelDelete", ListenerAdapter::onPrivateChannelDelete),
+            //Guild Events
+            handler(GuildJoinEvent.class, "onGuildJoin", ListenerAdapter::onGuildJoin),
+            handler(GuildLeaveEvent.class, "onGuildLeave", ListenerAdapter::onGuildLeave),
+            handler(GuildAvailableEvent.class, "onGuildAvailable", ListenerAdapter::onGuildAvailable),
+            handler(GuildUnavailableEvent.class, "onGuildUnavailable", ListenerAdapter::onGuildUnavailable),
+            handler(UnavailableGuildJoinedEvent.class, "onUnavailableGuildJoined", ListenerAdapter::onUnavailableGuildJoined),
+            handler(GuildBanEvent.class, "onGuildBan", ListenerAdapter::onGuildBan),
+            handler(GuildUnbanEvent.class, "onGuildUnban", ListenerAdapter::onGuildUnban),
+            //Guild Update Events
+            handler(GuildUpdateAfkChannelEvent.class, "onGuildUpdateAfkChannel", ListenerAdapter::onGuildUpdateAfkChannel),
+            handler(GuildUpdateSystemChannelEvent.class, "onGuildUpdateSystemChannel", ListenerAdapter::onGuildUpdateSystemChannel),
+            handler(GuildUpdateAfkTimeoutEvent.class, "onGuildUpdateAfkTimeout", ListenerAdapter::onGuildUpdateAfkTimeout),
+            handler(GuildUpdateIconEvent.class, "onGuildUpdateIcon", ListenerAdapter::onGuildUpdateIcon),
+            handler(GuildUpdateMFALevelEvent.class, "onGuildUpdateMFALevel", ListenerAdapter::onGuildUpdateMFALevel),
+            handler(GuildUpdateNameEvent.class, "onGuildUpdateName", ListenerAdapter::onGuildUpdateName),
+            handler(GuildUpdateNotificationLevelEvent.class, "onGuildUpdateNotificationLevel", ListenerAdapter::onGuildUpdateNotificationLevel),
+            handler(GuildUpdateOwnerEvent.class, "onGuildUpdateOwner", ListenerAdapter::onGuildUpdateOwner),
+            handler(GuildUpdateRegionEvent.class, "onGuildUpdateRegion", ListenerAdapter::onGuildUpdateRegion),
+            handler(GuildUpdateSplashEvent.class, "onGuildUpdateSplash", ListenerAdapter::onGuildUpdateSplash),
+            handler(GuildUpdateVerificationLevelEvent.class, "onGuildUpdateVerificationLevel", ListenerAdapter::onGuildUpdateVerificationLevel),
+            //Guild Member Events
+            handler(GuildMemberJoinEvent.class, "onGuildMemberJoin", ListenerAdapter::onGuildMemberJoin),
+            handler(GuildMemberLeaveEvent.class, "onGuildMemberLeave", ListenerAdapter::onGuildMemberLeave),
+            handler(GuildMemberRoleAddEvent.class, "onGuildMemberRoleAdd", ListenerAdapter::onGuildMemberRoleAdd),
+            handler(GuildMemberRoleRemoveEvent.class, "onGuildMemberRoleRemove", ListenerAdapter::onGuildMemberRoleRemove),
+            handler(GuildMemberNickChangeEvent.class, "onGuildMemberNickChange", ListenerAdapter::onGuildMemberNickChange),
+            //Guild Voice Events
+            handler(GuildVoiceJoinEvent.class, "onGuildVoiceJoin", ListenerAdapter::onGuildVoiceJoin),
+            handler(GuildVoiceMoveEvent.class, "onGuildVoiceMove", ListenerAdapter::onGuildVoiceMove),
+            handler(GuildVoiceLeaveEvent.class, "onGuildVoiceLeave", ListenerAdapter::onGuildVoiceLeave),
+            handler(GuildVoiceMuteEvent.class, "onGuildVoiceMute", ListenerAdapter::onGuildVoiceMute),
+            handler(GuildVoiceDeafenEvent.class, "onGuildVoiceDeafen", ListenerAdapter::onGuildVoiceDeafen),
+            handler(GuildVoiceGuildMuteEvent.class, "onGuildVoiceGuildMute", ListenerAdapter::onGuildVoiceGuildMute),
+            handler(GuildVoiceGuildDeafenEvent.class, "onGuildVoiceGuildDeafen", ListenerAdapter::onGuildVoiceGuildDeafen),
+            handler(GuildVoiceSelfMuteEvent.class, "onGuildVoiceSelfMute", ListenerAdapter::onGuildVoiceSelfMute),
+            handler(GuildVoiceSelfDeafenEvent.class, "onGuildVoiceSelfDeafen", ListenerAdapter::onGuildVoiceSelfDeafen),
+            handler(GuildVoiceSuppressEvent.class, "onGuildVoiceSuppress", ListenerAdapter::onGuildVoiceSuppress),
+            //Role Events
+            handler(RoleCreateEvent.class, "onRoleCreate", ListenerAdapter::onRoleCreate),
+            handler(RoleDeleteEvent.class, "onRoleDelete", ListenerAdapter::onRoleDelete),
+            //Role Update Events
+            handler(RoleUpdateColorEvent.class, "onRoleUpdateColor", ListenerAdapter::onRoleUpdateColor),
+            handler(RoleUpdateHoistedEvent.class, "onRoleUpdateHoisted", ListenerAdapter::onRoleUpdateHoisted),
+            handler(RoleUpdateMentionableEvent.class, "onRoleUpdateMentionable", ListenerAdapter::onRoleUpdateMentionable),
+            handler(RoleUpdateNameEvent.class, "onRoleUpdateName", ListenerAdapter::onRoleUpdateName),
+            handler(RoleUpdatePermissionsEvent.class, "onRoleUpdatePermissions", ListenerAdapter::onRoleUpdatePermissions),
+            handler(RoleUpdatePositionEvent.class, "onRoleUpdatePosition", ListenerAdapter::onRoleUpdatePosition),
+            //Emote Events
+            handler(EmoteAddedEvent.class, "onEmoteAdded", ListenerAdapter::onEmoteAdded),
+            handler(EmoteRemovedEvent.class, "onEmoteRemoved", ListenerAdapter::onEmoteRemoved),
+            //Emote Update Events
+            handler(EmoteUpdateNameEvent.class, "onEmoteUpdateName", ListenerAdapter::onEmoteUpdateName),
+            handler(EmoteUpdateRolesEvent.class, "onEmoteUpdateRoles", ListenerAdapter::onEmoteUpdateRoles),
+            // Debug Events
+            handler(HttpRequestEvent.class, "onHttpRequest", ListenerAdapter::onHttpRequest)
+        },
+        {
+            //Generic Events
+            //A new block so that these are not overridden by the above events.
+            handler(GenericGuildMessageEvent.class, "onGenericGuildMessage", ListenerAdapter::onGenericGuildMessage),
+            handler(GenericMessageReactionEvent.class, "onGenericMessageReaction", ListenerAdapter::onGenericMessageReaction),
+            handler(GenericPrivateMessageEvent.class, "onGenericPrivateMessage", ListenerAdapter::onGenericPrivateMessage),
+            handler(GenericPrivateMessageReactionEvent.class, "onGenericPrivateMessageReaction", ListenerAdapter::onGenericPrivateMessageReaction),
+            handler(GenericTextChannelUpdateEvent.class, "onGenericTextChannelUpdate", ListenerAdapter::onGenericTextChannelUpdate),
+            handler(GenericCategoryUpdateEvent.class, "onGenericCategoryUpdate", ListenerAdapter::onGenericCategoryUpdate),
+            handler(GenericGuildMessageReactionEvent.class, "onGenericGuildMessageReaction", ListenerAdapter::onGenericGuildMessageReaction),
+            handler(GenericVoiceChannelUpdateEvent.class, "onGenericVoiceChannelUpdate", ListenerAdapter::onGenericVoiceChannelUpdate),
+            handler(GenericGuildUpdateEvent.class, "onGenericGuildUpdate", ListenerAdapter::onGenericGuildUpdate),
+            handler(GenericGuildMemberEvent.class, "onGenericGuildMember", ListenerAdapter::onGenericGuildMember),
+            handler(GenericGuildVoiceEvent.class, "onGenericGuildVoice", ListenerAdapter::onGenericGuildVoice),
+            handler(GenericRoleUpdateEvent.class, "onGenericRoleUpdate", ListenerAdapter::onGenericRoleUpdate),
+            handler(GenericEmoteUpdateEvent.class, "onGenericEmoteUpdate", ListenerAdapter::onGenericEmoteUpdate)
+        },
+        {
+            //Generic events that have generic subclasses (the subclasses as above).
+            handler(GenericMessageEvent.class, "onGenericMessage", ListenerAdapter::onGenericMessage),
+            handler(GenericUserEvent.class, "onGenericUser", ListenerAdapter::onGenericUser),
+            handler(GenericSelfUpdateEvent.class, "onGenericSelfUpdate", ListenerAdapter::onGenericSelfUpdate),
+            handler(GenericTextChannelEvent.class, "onGenericTextChannel", ListenerAdapter::onGenericTextChannel),
+            handler(GenericVoiceChannelEvent.class, "onGenericVoiceChannel", ListenerAdapter::onGenericVoiceChannel),
+            handler(GenericCategoryEvent.class, "onGenericCategory", ListenerAdapter::onGenericCategory),
+            handler(GenericGuildEvent.class, "onGenericGuild", ListenerAdapter::onGenericGuild),
+            handler(GenericRoleEvent.class, "onGenericRole", ListenerAdapter::onGenericRole),
+            handler(GenericEmoteEvent.class, "onGenericEmote", ListenerAdapter::onGenericEmote)
+        }
+    };
 
+    //Only called for client accounts
+    private static final Handler[][] CLIENT_HANDLERS = {
+        {
+            //Relationship Events
+            handler(FriendAddedEvent.class, "onFriendAdded", ListenerAdapter::onFriendAdded),
+            handler(FriendRemovedEvent.class, "onFriendRemoved", ListenerAdapter::onFriendRemoved),
+            handler(UserBlockedEvent.class, "onUserBlocked", ListenerAdapter::onUserBlocked),
+            handler(UserUnblockedEvent.class, "onUserUnblocked", ListenerAdapter::onUserUnblocked),
+            handler(FriendRequestSentEvent.class, "onFriendRequestSent", ListenerAdapter::onFriendRequestSent),
+            handler(FriendRequestCanceledEvent.class, "onFriendRequestCanceled", ListenerAdapter::onFriendRequestCanceled),
+            handler(FriendRequestReceivedEvent.class, "onFriendRequestReceived", ListenerAdapter::onFriendRequestReceived),
+            handler(FriendRequestIgnoredEvent.class, "onFriendRequestIgnored", ListenerAdapter::onFriendRequestIgnored),
+            //Group Events
+            handler(GroupJoinEvent.class, "onGroupJoin", ListenerAdapter::onGroupJoin),
+            handler(GroupLeaveEvent.class, "onGroupLeave", ListenerAdapter::onGroupLeave),
+            handler(GroupUserJoinEvent.class, "onGroupUserJoin", ListenerAdapter::onGroupUserJoin),
+            handler(GroupUserLeaveEvent.class, "onGroupUserLeave", ListenerAdapter::onGroupUserLeave)
+        },
+        {
+            //Group Message Events
+            handler(GroupMessageReceivedEvent.class, "onGroupMessageReceived", ListenerAdapter::onGroupMessageReceived),
+            handler(GroupMessageUpdateEvent.class, "onGroupMessageUpdate", ListenerAdapter::onGroupMessageUpdate),
+            handler(GroupMessageDeleteEvent.class, "onGroupMessageDelete", ListenerAdapter::onGroupMessageDelete),
+            handler(GroupMessageEmbedEvent.class, "onGroupMessageEmbed", ListenerAdapter::onGroupMessageEmbed),
+            handler(GroupMessageReactionAddEvent.class, "onGroupMessageReactionAdd", ListenerAdapter::onGroupMessageReactionAdd),
+            handler(GroupMessageReactionRemoveEvent.class, "onGroupMessageReactionRemove", ListenerAdapter::onGroupMessageReactionRemove),
+            handler(GroupMessageReactionRemoveAllEvent.class, "onGroupMessageReactionRemoveAll", ListenerAdapter::onGroupMessageReactionRemoveAll),
             //Group Update Events
-            else if (event instanceof GroupUpdateIconEvent)
-                onGroupUpdateIcon((GroupUpdateIconEvent) event);
-            else if (event instanceof GroupUpdateNameEvent)
-                onGroupUpdateName((GroupUpdateNameEvent) event);
-            else if (event instanceof GroupUpdateOwnerEvent)
-                onGroupUpdateOwner((GroupUpdateOwnerEvent) event);
-
+            handler(GroupUpdateIconEvent.class, "onGroupUpdateIcon", ListenerAdapter::onGroupUpdateIcon),
+            handler(GroupUpdateNameEvent.class, "onGroupUpdateName", ListenerAdapter::onGroupUpdateName),
+            handler(GroupUpdateOwnerEvent.class, "onGroupUpdateOwner", ListenerAdapter::onGroupUpdateOwner),
             //Call Events
-            else if (event instanceof CallCreateEvent)
-                onCallCreate((CallCreateEvent) event);
-            else if (event instanceof CallDeleteEvent)
-                onCallDelete((CallDeleteEvent) event);
-
+            handler(CallCreateEvent.class, "onCallCreate", ListenerAdapter::onCallCreate),
+            handler(CallDeleteEvent.class, "onCallDelete", ListenerAdapter::onCallDelete),
             //Call Update Events
-            else if (event instanceof CallUpdateRegionEvent)
-                onCallUpdateRegion((CallUpdateRegionEvent) event);
-            else if (event instanceof CallUpdateRingingUsersEvent)
-                onCallUpdateRingingUsers((CallUpdateRingingUsersEvent) event);
-
+            handler(CallUpdateRegionEvent.class, "onCallUpdateRegion", ListenerAdapter::onCallUpdateRegion),
+            handler(CallUpdateRingingUsersEvent.class, "onCallUpdateRingingUsers", ListenerAdapter::onCallUpdateRingingUsers),
             //Call Voice Events
-            else if (event instanceof CallVoiceJoinEvent)
-                onCallVoiceJoin((CallVoiceJoinEvent) event);
-            else if (event instanceof CallVoiceLeaveEvent)
-                onCallVoiceLeave((CallVoiceLeaveEvent) event);
-            else if (event instanceof CallVoiceSelfMuteEvent)
-                onCallVoiceSelfMute((CallVoiceSelfMuteEvent) event);
-            else if (event instanceof CallVoiceSelfDeafenEvent)
-                onCallVoiceSelfDeafen((CallVoiceSelfDeafenEvent) event);
-
+            handler(CallVoiceJoinEvent.class, "onCallVoiceJoin", ListenerAdapter::onCallVoiceJoin),
+            handler(CallVoiceLeaveEvent.class, "onCallVoiceLeave", ListenerAdapter::onCallVoiceLeave),
+            handler(CallVoiceSelfMuteEvent.class, "onCallVoiceSelfMute", ListenerAdapter::onCallVoiceSelfMute),
+            handler(CallVoiceSelfDeafenEvent.class, "onCallVoiceSelfDeafen", ListenerAdapter::onCallVoiceSelfDeafen)
+        },
+        {
             //Client Only Child-Generic Events
-            if (event instanceof GenericRelationshipAddEvent)
-                onGenericRelationshipAdd((GenericRelationshipAddEvent) event);
-            else if (event instanceof GenericRelationshipRemoveEvent)
-                onGenericRelationshipRemove((GenericRelationshipRemoveEvent) event);
-            else if (event instanceof GenericGroupMessageEvent)
-                onGenericGroupMessage((GenericGroupMessageEvent) event);
-            else if (event instanceof GenericGroupMessageReactionEvent)
-                onGenericGroupMessageReaction((GenericGroupMessageReactionEvent) event);
-            else if (event instanceof GenericGroupUpdateEvent)
-                onGenericGroupUpdate((GenericGroupUpdateEvent) event);
-            else if (event instanceof GenericCallUpdateEvent)
-                onGenericCallUpdate((GenericCallUpdateEvent) event);
-            else if (event instanceof GenericCallVoiceEvent)
-                onGenericCallVoice((GenericCallVoiceEvent) event);
-
+            handler(GenericRelationshipAddEvent.class, "onGenericRelationshipAdd", ListenerAdapter::onGenericRelationshipAdd),
+            handler(GenericRelationshipRemoveEvent.class, "onGenericRelationshipRemove", ListenerAdapter::onGenericRelationshipRemove),
+            handler(GenericGroupMessageEvent.class, "onGenericGroupMessage", ListenerAdapter::onGenericGroupMessage),
+            handler(GenericGroupMessageReactionEvent.class, "onGenericGroupMessageReaction", ListenerAdapter::onGenericGroupMessageReaction),
+            handler(GenericGroupUpdateEvent.class, "onGenericGroupUpdate", ListenerAdapter::onGenericGroupUpdate),
+            handler(GenericCallUpdateEvent.class, "onGenericCallUpdate", ListenerAdapter::onGenericCallUpdate),
+            handler(GenericCallVoiceEvent.class, "onGenericCallVoice", ListenerAdapter::onGenericCallVoice)
+        },
+        {
             //Client Only Generic Events
-            if (event instanceof GenericRelationshipEvent)
-                onGenericRelationship((GenericRelationshipEvent) event);
-            else if (event instanceof GenericGroupEvent)
-                onGenericGroup((GenericGroupEvent) event);
-            else if (event instanceof GenericCallEvent)
-                onGenericCall((GenericCallEvent) event);
+            handler(GenericRelationshipEvent.class, "onGenericRelationship", ListenerAdapter::onGenericRelationship),
+            handler(GenericGroupEvent.class, "onGenericGroup", ListenerAdapter::onGenericGroup),
+            handler(GenericCallEvent.class, "onGenericCall", ListenerAdapter::onGenericCall)
+        }
+    };
+
+    private static final ClassValue<ClassValue<Handler[][]>> DISPATCH = new ClassValue<ClassValue<Handler[][]>>()
+    {
+        @Override
+        protected ClassValue<Handler[][]> computeValue(Class<?> listenerType)
+        {
+            final Set<Handler> overridden = findOverridden(listenerType);
+            return new ClassValue<Handler[][]>()
+            {
+                @Override
+                protected Handler[][] computeValue(Class<?> eventType)
+                {
+                    return new Handler[][] {
+                        resolve(eventType, HANDLERS, overridden),
+                        resolve(eventType, CLIENT_HANDLERS, overridden)
+                    };
+                }
+            };
+        }
+    };
+
+    private static Set<Handler> findOverridden(Class<?> listenerType)
+    {
+        Set<Handler> overridden = new HashSet<>();
+        for (Handler[][] blocks : new Handler[][][] {HANDLERS, CLIENT_HANDLERS})
+        {
+            for (Handler[] block : blocks)
+            {
+                for (Handler handler : block)
+                {
+                    try
+                    {
+                        if (listenerType.gibMethod(handler.name, handler.type).gibDeclaringClass() != ListenerAdapter.class)
+                            overridden.add(handler);
+                    }
+                    catch (NoSuchMethodException e)
+                    {
+                        throw new IllegalStateException("ListenerAdapter has no callback " + handler.name, e);
+                    }
+                }
+            }
+        }
+        return overridden;
+    }
+
+    private static Handler[] resolve(Class<?> eventType, Handler[][] blocks, Set<Handler> overridden)
+    {
+        List<Handler> handlers = new ArrayList<>();
+        for (Handler[] block : blocks)
+        {
+            for (Handler handler : block)
+            {
+                if (handler.type.isAssignableFrom(eventType))
+                {
+                    //Callbacks that are not overridden do nothing and are skipped
+                    if (overridden.contains(handler))
+                        handlers.add(handler);
+                    break;
+                }
+            }
+        }
+        return handlers.toArray(new Handler[handlers.size()]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> Handler handler(Class<T> type, String name, BiConsumer<ListenerAdapter, T> callback)
+    {
+        return new Handler(type, name, (BiConsumer<ListenerAdapter, Event>) callback);
+    }
+
+    private static final class Handler
+    {
+        private final Class<? extends Event> type;
+        private final String name;
+        private final BiConsumer<ListenerAdapter, Event> callback;
+
+        private Handler(Class<? extends Event> type, String name, BiConsumer<ListenerAdapter, Event> callback)
+        {
+            this.type = type;
+            this.name = name;
+            this.callback = callback;
         }
     }
 }
@@ -27,7 +27,14 @@
  *
  * <p>The {@link net.dv8tion.jda.core.hooks.AnnotatedEventManager AnnotatedEventManager}
  * can forward events directly to methods that have the {@link net.dv8tion.jda.core.hooks.SubscribeEvent SubscribeEvent} annotation.
+ * <br>The {@link net.dv8tion.jda.core.hooks.CompiledAnnotatedEventManager CompiledAnnotatedEventManager} does the same
+ * but compiles each annotated method into a direct invoker when the listener is registered.
  *
- * <p><b>Note: All of the standard EventManager implementations are synchronized</b>
+ * <p>The {@link net.dv8tion.jda.core.hooks.AsyncEventManager AsyncEventManager} wraps another manager and handles events
+ * on an executor, events of the same guild are still handled in order.
+ *
+ * <p><b>Note: The InterfacedEventManager and the annotated EventManagers call the listeners on the thread that handles
+ * the events of the JDA instance, one event at a time. The AsyncEventManager calls them on the threads of its executor,
+ * events of different guilds are handled concurrently and listeners must be thread-safe.</b>
  */
 package net.dv8tion.jda.core.hooks;
@@ -19,6 +19,7 @@ package net.dv8tion.jda.core.managers;
 import net.dv8tion.jda.core.JDA;
 import net.dv8tion.jda.core.audio.AudioReceiveHandler;
 import net.dv8tion.jda.core.audio.AudioSendHandler;
+import net.dv8tion.jda.core.audio.AudioStatistics;
 import net.dv8tion.jda.core.audio.hooks.ConnectionListener;
 import net.dv8tion.jda.core.audio.hooks.ConnectionStatus;
 import net.dv8tion.jda.core.entities.Guild;
@@ -151,6 +152,46 @@ public interface AudioManager
      */
     long gibConnectTimeout();
 
+    /**
+     * Counters of the audio pipeline of the current audio connection, such as the amount of sent frames,
+     * send overruns, decode errors and the packet loss of each audio source.
+     * <br>The counters start at 0 for every new connection.
+     *
+     * @return The {@link net.dv8tion.jda.core.audio.AudioStatistics AudioStatistics} of the current connection,
+     *         or {@code null} if the manager is not connected
+     *
+     * @since  3.3.1
+     */
+    AudioStatistics gibStatistics();
+
+    /**
+     * Sets the duration, in milliseconds, of the opus frames encoded from the PCM audio of the
+     * {@link net.dv8tion.jda.core.audio.AudioSendHandler AudioSendHandler}. The default value is 20 milliseconds.
+     * <br>For longer frames the handler is asked for multiple 20ms chunks of audio which are encoded into a single packet.
+     * This lowers the amount of packets and wakeups of the sending system for each connection at the cost of latency.
+     *
+     * <p>Handlers that provide {@link net.dv8tion.jda.core.audio.AudioSendHandler#isOpus() opus} audio are not affected,
+     * the duration of their frames is read from each frame.
+     *
+     * @param  frameDuration
+     *         The duration of the encoded frames, one of 20, 40 or 60 milliseconds
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         If the provided duration is not 20, 40 or 60
+     *
+     * @since  3.3.1
+     */
+    void setFrameDuration(int frameDuration);
+
+    /**
+     * The duration, in <b>milliseconds</b>, of the opus frames encoded from PCM audio.
+     *
+     * @return The currently set frame duration
+     *
+     * @since  3.3.1
+     */
+    int gibFrameDuration();
+
     /**
      * Sets the {@link net.dv8tion.jda.core.audio.AudioSendHandler}
      * that the manager will use to provide audio data to an audio connection.
@@ -0,0 +1,156 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.core.requests;
+
+import net.dv8tion.jda.core.handle.JsonReader;
+import org.json.JSONObject;
+
+/**
+ * A single payload received on the main WebSocket.
+ *
+ * <p>When created from raw text only the {@code op}, {@code s} and {@code t} fields are decoded,
+ * the {@code d} field is only remembered by its position. Handlers can then either pull the fields they need
+ * through {@link #openData()} or fall back to the full {@link org.json.JSONObject JSONObject} via {@link #toJSON()}.
+ */
+public class GatewayPayload
+{
+    private final CharSequence raw;
+    private final int opCode;
+    private final long sequence;
+    private final String type;
+    private final int dataStart;
+    private final int dataEnd;
+
+    private JSONObject json;
+
+    private GatewayPayload(CharSequence raw, int opCode, long sequence, String type, int dataStart, int dataEnd)
+    {
+        this.raw = raw;
+        this.opCode = opCode;
+        this.sequence = sequence;
+        this.type = type;
+        this.dataStart = dataStart;
+        this.dataEnd = dataEnd;
+    }
+
+    public GatewayPayload(JSONObject json)
+    {
+        this.raw = null;
+        this.json = json;
+        this.opCode = json.optInt("op", -1);
+        this.sequence = json.isNull("s") ? -1 : json.gibLong("s");
+        this.type = json.optString("t", null);
+        this.dataStart = -1;
+        this.dataEnd = -1;
+    }
+
+    public static GatewayPayload parse(CharSequence raw)
+    {
+        int opCode = -1;
+        long sequence = -1;
+        String type = null;
+        int dataStart = -1;
+        int dataEnd = -1;
+
+        JsonReader reader = new JsonReader(raw);
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            switch (reader.nextName())
+            {
+                case "op":
+                    opCode = reader.nextInt();
+                    break;
+                case "s":
+                    if (reader.isNextNull())
+                        reader.nextNull();
+                    else
+                        sequence = reader.nextLong();
+                    break;
+                case "t":
+                    type = reader.nextStringOrNull();
+                    break;
+                case "d":
+                    dataStart = reader.gibValueStart();
+                    reader.skipValue();
+                    dataEnd = reader.gibPosition();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new GatewayPayload(raw, opCode, sequence, type, dataStart, dataEnd);
+    }
+
+    public int gibOpCode()
+    {
+        return opCode;
+    }
+
+    public boolean hasSequence()
+    {
+        return sequence >= 0;
+    }
+
+    public long gibSequence()
+    {
+        return sequence;
+    }
+
+    public String gibType()
+    {
+        return type;
+    }
+
+    /**
+     * Creates a new {@link net.dv8tion.jda.core.handle.JsonReader JsonReader} for the {@code d} field of this payload.
+     * <br>Every call returns a fresh reader positioned at the start of the value.
+     *
+     * @return JsonReader for the data of this payload
+     */
+    public JsonReader openData()
+    {
+        if (raw != null)
+        {
+            if (dataStart < 0)
+                return new JsonReader("null");
+            return new JsonReader(raw, dataStart, dataEnd);
+        }
+        final Object data = json.opt("d");
+        return new JsonReader(data == null ? "null" : JSONObject.valueToString(data));
+    }
+
+    /**
+     * The full payload as {@link org.json.JSONObject JSONObject}.
+     * <br>This is only built on the first call and cached afterwards.
+     *
+     * @return The JSONObject representation of this payload
+     */
+    public JSONObject toJSON()
+    {
+        if (json == null)
+            json = new JSONObject(raw.toString());
+        return json;
+    }
+
+    @Override
+    public String toString()
+    {
+        return raw != null ? raw.toString() : json.toString();
+    }
+}
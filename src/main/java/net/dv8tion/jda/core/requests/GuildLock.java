@@ -57,9 +57,11 @@ public class GuildLock
             List<JSONObject> events = cache.remove(guildId);
             if(events.size() > 0)
             {
-                LOG.debug("Replaying " + events.size() + " events for unlocked guild with id " + guildId);
+                if (LOG.isDebugEnabled())
+                    LOG.debug("Replaying " + events.size() + " events for unlocked guild with id " + guildId);
                 ((JDAImpl) api).gibClient().handle(events);
-                LOG.debug("Finished replaying events for guild with id " + guildId);
+                if (LOG.isDebugEnabled())
+                    LOG.debug("Finished replaying events for guild with id " + guildId);
             }
         }
     }
@@ -68,7 +70,8 @@ public class GuildLock
     {
         if (isLocked(guildId))
         {
-            LOG.debug("Queueing up event for guild with id " + guildId + ": " + event.toString());
+            if (LOG.isDebugEnabled())
+                LOG.debug("Queueing up event for guild with id " + guildId + ": " + event);
             cache.gib(guildId).add(event);
         }
     }
@@ -0,0 +1,98 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.core.requests;
+
+/**
+ * Receives measurements of the REST requester for each rate-limit route.
+ * <br>This can be used to bridge the requester to a metrics library such as Micrometer or Dropwizard Metrics,
+ * all methods do nothing by default.
+ *
+ * <p>The route provided to each method is the rate-limit route of the bucket that handles the request.
+ * For bot accounts this includes the major parameters of the route, for example the id of the channel.
+ *
+ * <p>The methods are called on the threads of the requester and should return quickly.
+ * Exceptions thrown by the methods are logged and do not affect the request.
+ *
+ * @since  3.3.1
+ *
+ * @see    net.dv8tion.jda.core.JDA#setRateLimitListener(RateLimitListener)
+ */
+public interface RateLimitListener
+{
+    /**
+     * Called when a request was added to the queue of its route.
+     * <br>The queue depth of a route is the number of queued requests minus the number of
+     * {@link #onRequestDequeued(String) dequeued} requests.
+     *
+     * @param route
+     *        The rate-limit route
+     */
+    default void onRequestQueued(String route) {}
+
+    /**
+     * Called when a queued request was removed from the queue of its route
+     * because it completed, failed or was cancelled.
+     *
+     * @param route
+     *        The rate-limit route
+     */
+    default void onRequestDequeued(String route) {}
+
+    /**
+     * Called when the processing of a route has to wait because of a rate-limit.
+     *
+     * @param route
+     *        The rate-limit route
+     * @param delay
+     *        The time in milliseconds until the next request on this route can be made
+     */
+    default void onRateLimitDelay(String route, long delay) {}
+
+    /**
+     * Called when Discord responded with {@code 429: Too Many Requests}.
+     *
+     * @param route
+     *        The rate-limit route
+     * @param retryAfter
+     *        The time in milliseconds until the request can be retried
+     * @param global
+     *        Whether this was a global rate-limit that affects all routes
+     */
+    default void onRateLimitHit(String route, long retryAfter, boolean global) {}
+
+    /**
+     * Called for every response that was received, this includes server errors which are retried.
+     *
+     * @param route
+     *        The rate-limit route
+     * @param code
+     *        The http status code of the response
+     * @param latency
+     *        The time in nanoseconds from sending the request to receiving the response
+     */
+    default void onResponse(String route, int code, long latency) {}
+
+    /**
+     * Called when a request is sent again because of a server error or a socket timeout.
+     *
+     * @param route
+     *        The rate-limit route
+     * @param attempt
+     *        The number of times the request has been retried, including this retry
+     */
+    default void onRetry(String route, int attempt) {}
+}
@@ -31,6 +31,7 @@ public abstract class RateLimiter
 
     protected final Requester requester;
     protected final ScheduledThreadPoolExecutor pool;
+    protected final boolean shutdownPool;
     protected volatile boolean isShutdown = false; 
     protected volatile ConcurrentHashMap<String, IBucket> buckets = new ConcurrentHashMap<>();
     protected volatile ConcurrentLinkedQueue<IBucket> submittedBuckets = new ConcurrentLinkedQueue<>();
@@ -38,7 +39,9 @@ public abstract class RateLimiter
     protected RateLimiter(Requester requester, int poolSize)
     {
         this.requester = requester;
-        this.pool = new ScheduledThreadPoolExecutor(poolSize, new RateLimitThreadFactory(requester.gibJDA()));
+        final ScheduledThreadPoolExecutor sharedPool = requester.gibJDA().gibRateLimitPool();
+        this.shutdownPool = sharedPool == null;
+        this.pool = sharedPool != null ? sharedPool : new ScheduledThreadPoolExecutor(poolSize, new RateLimitThreadFactory(requester.gibJDA()));
     }
 
 
@@ -50,6 +53,20 @@ public abstract class RateLimiter
 
     // --- Default Implementations --
 
+    /**
+     * The route of the bucket that handles the provided route.
+     * <br>This is the route that is passed to the {@link net.dv8tion.jda.core.requests.RateLimitListener RateLimitListener}.
+     *
+     * @param  route
+     *         The compiled route
+     *
+     * @return The bucket route
+     */
+    public String gibBucketRoute(Route.CompiledRoute route)
+    {
+        return route.gibRatelimitRoute();
+    }
+
     public boolean isRateLimited(Route.CompiledRoute route)
     {
         return gibRateLimit(route) != null;
@@ -75,13 +92,16 @@ public abstract class RateLimiter
     {
         isShutdown = true;
 
+        if (!shutdownPool)
+            return;
         pool.setKeepAliveTime(time, unit);
         pool.allowCoreThreadTimeOut(true);
     }
 
     public void forceShutdown()
     {
-        pool.shutdownNow();
+        if (shutdownPool)
+            pool.shutdownNow();
     }
 
     private class RateLimitThreadFactory implements ThreadFactory
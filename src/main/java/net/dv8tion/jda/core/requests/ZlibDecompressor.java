@@ -0,0 +1,169 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.core.requests;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decompresses the zlib-stream transport compression of the main WebSocket.
+ *
+ * <p>All buffers are owned by this decompressor and reused for every message,
+ * buffers that grew beyond {@link #MAX_RETAINED_SIZE} (e.g. for READY or large GUILD_CREATE payloads)
+ * are released before the next message is decompressed.
+ * <br>The returned text is only valid until the next call to {@link #decompress(byte[])}.
+ */
+public class ZlibDecompressor
+{
+    public static final int INITIAL_SIZE = 8 * 1024;
+    public static final int MAX_RETAINED_SIZE = 256 * 1024;
+
+    protected final Inflater inflater = new Inflater();
+    protected final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    protected byte[] input = new byte[INITIAL_SIZE];
+    protected int inputLength = 0;
+    protected byte[] output = new byte[INITIAL_SIZE * 2];
+    protected CharBuffer text = CharBuffer.allocate(INITIAL_SIZE * 2);
+
+    /**
+     * Adds the provided frame to the current message.
+     * <br>When the frame ends with the zlib flush suffix the message is complete and the inflated text is returned.
+     *
+     * @param  data
+     *         The binary frame
+     *
+     * @throws java.util.zip.DataFormatException
+     *         If the compressed data is malformed
+     *
+     * @return The decompressed message, or {@code null} if the message is not complete yet
+     */
+    public CharSequence decompress(byte[] data) throws DataFormatException
+    {
+        if (inputLength == 0)
+            release();
+
+        final boolean complete = isFlush(data);
+        if (complete && inputLength == 0)
+        {
+            // common case, the message was not fragmented and we can inflate the frame directly
+            inflater.setInput(data);
+        }
+        else
+        {
+            append(data);
+            if (!complete)
+                return null;
+            inflater.setInput(input, 0, inputLength);
+        }
+
+        try
+        {
+            return decode(inflate());
+        }
+        finally
+        {
+            inputLength = 0;
+        }
+    }
+
+    /**
+     * Resets the zlib context and drops any buffered fragments.
+     * <br>This has to be done when a new connection is established.
+     */
+    public void reset()
+    {
+        inflater.reset();
+        inputLength = 0;
+        release();
+    }
+
+    /**
+     * Releases the native resources of the zlib context.
+     * <br>This decompressor cannot be used afterwards.
+     */
+    public void shutdown()
+    {
+        inflater.end();
+    }
+
+    protected boolean isFlush(byte[] data)
+    {
+        final int length = data.length;
+        if (length < 4)
+            return false;
+        final int suffix = data[length - 1] & 0xFF
+                | (data[length - 2] & 0xFF) << 8
+                | (data[length - 3] & 0xFF) << 16
+                | (data[length - 4] & 0xFF) << 24;
+        return suffix == WebSocketClient.ZLIB_SUFFIX;
+    }
+
+    protected void append(byte[] data)
+    {
+        final int required = inputLength + data.length;
+        if (required > input.length)
+            input = Arrays.copyOf(input, Math.max(required, input.length * 2));
+        System.arraycopy(data, 0, input, inputLength, data.length);
+        inputLength = required;
+    }
+
+    protected int inflate() throws DataFormatException
+    {
+        int length = 0;
+        do
+        {
+            if (length == output.length)
+                output = Arrays.copyOf(output, output.length * 2);
+            length += inflater.inflate(output, length, output.length - length);
+        }
+        while (length == output.length);
+        return length;
+    }
+
+    protected CharSequence decode(int length)
+    {
+        // UTF-8 never decodes to more chars than there are bytes
+        if (text.capacity() < length)
+            text = CharBuffer.allocate(Math.max(length, text.capacity() * 2));
+        text.clear();
+        decoder.reset();
+        final ByteBuffer bytes = ByteBuffer.wrap(output, 0, length);
+        decoder.decode(bytes, text, true);
+        decoder.flush(text);
+        text.flip();
+        return text;
+    }
+
+    protected void release()
+    {
+        if (input.length > MAX_RETAINED_SIZE)
+            input = new byte[INITIAL_SIZE];
+        if (output.length > MAX_RETAINED_SIZE)
+            output = new byte[INITIAL_SIZE * 2];
+        if (text.capacity() > MAX_RETAINED_SIZE)
+            text = CharBuffer.allocate(INITIAL_SIZE * 2);
+    }
+}
@@ -33,11 +33,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BotRateLimiter extends RateLimiter
 {
@@ -107,6 +107,7 @@ public class BotRateLimiter extends RateLimiter
                     //If it is global, lock down the threads.
                     shardRateLimit.setGlobalRatelimit(gibNow() + retryAfter);
                 }
+                requester.gibRateLimitListener().onRateLimitHit(bucket.route, retryAfter, Boolean.parseBoolean(global));
 
                 return retryAfter;
             }
@@ -231,6 +232,7 @@ public class BotRateLimiter extends RateLimiter
         void addToQueue(Request request)
         {
             requests.add(request);
+            requester.gibRateLimitListener().onRequestQueued(route);
             submitForProcessing();
         }
 
@@ -243,6 +245,8 @@ public class BotRateLimiter extends RateLimiter
                     Long delay = gibRateLimit();
                     if (delay == null)
                         delay = 0L;
+                    else if (delay > 0)
+                        requester.gibRateLimitListener().onRateLimitDelay(route, delay);
 
                     pool.schedule(this, delay, TimeUnit.MILLISECONDS);
                     submittedBuckets.add(this);
@@ -297,63 +301,85 @@ public class BotRateLimiter extends RateLimiter
             return route.hashCode();
         }
 
+        void dequeue(Request request)
+        {
+            if (requests.remove(request))
+                requester.gibRateLimitListener().onRequestDequeued(route);
+        }
+
+        void finishProcessing()
+        {
+            synchronized (submittedBuckets)
+            {
+                submittedBuckets.remove(this);
+                if (!requests.isEmpty())
+                {
+                    try
+                    {
+                        this.submitForProcessing();
+                    }
+                    catch (RejectedExecutionException e)
+                    {
+                        Requester.LOG.debug("Caught RejectedExecutionException when re-queuing a ratelimited request. The requester is probably shutdown, thus, this can be ignored.");
+                    }
+                }
+            }
+        }
+
         @Override
         public void run()
         {
+            // This bucket stays submitted until the in-flight request completes,
+            // no thread is blocked while waiting for the response.
+            // The callback can run before executeAsync returns, finishProcessing must only run once
+            // or the bucket is submitted twice.
+            final AtomicBoolean finished = new AtomicBoolean(false);
+            Request request = null;
             try
             {
-                synchronized (requests)
+                Long limit = gibRateLimit();
+                if (limit == null || limit <= 0) // possible global cooldown here
+                    request = requests.peek();
+                if (request == null)
+                {
+                    finished.set(true);
+                    finishProcessing();
+                    return;
+                }
+
+                final Request current = request;
+                requester.executeAsync(request, false, retryAfter ->
                 {
-                    for (Iterator<Request> it = requests.iterator(); it.hasNext(); )
+                    try
                     {
-                        Long limit = gibRateLimit();
-                        if (limit != null && limit > 0)
-                            break; // possible global cooldown here
-                        Request request = null;
-                        try
-                        {
-                            request = it.next();
-                            Long retryAfter = requester.execute(request);
-                            if (retryAfter != null)
-                                break;
-                            else
-                                it.remove();
-                        }
-                        catch (Throwable t)
-                        {
-                            Requester.LOG.fatal("Requester system encountered an internal error");
-                            Requester.LOG.fatal(t);
-                            it.remove();
-                            if (request != null)
-                                request.onFailure(t);
-                        }
+                        if (retryAfter == null)
+                            dequeue(current);
                     }
-
-                    synchronized (submittedBuckets)
+                    finally
                     {
-                        submittedBuckets.remove(this);
-                        if (!requests.isEmpty())
-                        {
-                            try
-                            {
-                                this.submitForProcessing();
-                            }
-                            catch (RejectedExecutionException e)
-                            {
-                                Requester.LOG.debug("Caught RejectedExecutionException when re-queuing a ratelimited request. The requester is probably shutdown, thus, this can be ignored.");
-                            }
-                        }
+                        if (finished.compareAndSet(false, true))
+                            finishProcessing();
                     }
-                }
+                });
             }
-            catch (Throwable err)
+            catch (Throwable t)
             {
-                Requester.LOG.fatal("Requester system encountered an internal error from beyond the synchronized execution blocks. NOT GOOD!");
-                Requester.LOG.fatal(err);
-                if (err instanceof Error)
+                Requester.LOG.fatal("Requester system encountered an internal error");
+                Requester.LOG.fatal(t);
+                // if the callback already ran the request was completed and the bucket released
+                if (finished.compareAndSet(false, true))
+                {
+                    if (request != null)
+                    {
+                        dequeue(request);
+                        request.onFailure(t);
+                    }
+                    finishProcessing();
+                }
+                if (t instanceof Error)
                 {
                     JDAImpl api = requester.gibJDA();
-                    api.gibEventManager().handle(new ExceptionEvent(api, err, true));
+                    api.gibEventManager().handle(new ExceptionEvent(api, t, true));
                 }
             }
         }
@@ -28,11 +28,11 @@ import org.json.JSONTokener;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ClientRateLimiter extends RateLimiter
 {
@@ -77,12 +77,15 @@ public class ClientRateLimiter extends RateLimiter
                 {
                     JSONObject limitObj = new JSONObject(new JSONTokener(in));
                     long retryAfter = limitObj.gibLong("retry_after");
+                    boolean global = limitObj.has("global") && limitObj.gibBoolean("global");
 
-                    if (limitObj.has("global") && limitObj.gibBoolean("global"))    //Global ratelimit
+                    if (global)    //Global ratelimit
                         globalCooldown = now + retryAfter;
                     else
                         bucket.retryAfter = now + retryAfter;
 
+                    requester.gibRateLimitListener().onRateLimitHit(bucket.route, retryAfter, global);
+
                     return retryAfter;                    
                 }
                 catch (IOException e)
@@ -97,9 +100,15 @@ public class ClientRateLimiter extends RateLimiter
         }
     }
 
+    @Override
+    public String gibBucketRoute(Route.CompiledRoute route)
+    {
+        return route.gibBaseRoute().gibRoute();
+    }
+
     private Bucket gibBucket(Route.CompiledRoute route)
     {
-        String baseRoute = route.gibBaseRoute().gibRoute();
+        String baseRoute = gibBucketRoute(route);
         Bucket bucket = (Bucket) buckets.gib(baseRoute);
         if (bucket == null)
         {
@@ -132,6 +141,7 @@ public class ClientRateLimiter extends RateLimiter
         void addToQueue(Request request)
         {
             requests.add(request);
+            requester.gibRateLimitListener().onRequestQueued(route);
             submitForProcessing();
         }
 
@@ -144,6 +154,8 @@ public class ClientRateLimiter extends RateLimiter
                     Long delay = gibRateLimit();
                     if (delay == null)
                         delay = 0L;
+                    else if (delay > 0)
+                        requester.gibRateLimitListener().onRateLimitDelay(route, delay);
 
                     pool.schedule(this, delay, TimeUnit.MILLISECONDS);
                     submittedBuckets.add(this);
@@ -190,58 +202,82 @@ public class ClientRateLimiter extends RateLimiter
             return route.hashCode();
         }
 
+        void dequeue(Request request)
+        {
+            if (requests.remove(request))
+                requester.gibRateLimitListener().onRequestDequeued(route);
+        }
+
+        void finishProcessing()
+        {
+            synchronized (submittedBuckets)
+            {
+                submittedBuckets.remove(this);
+                if (!requests.isEmpty())
+                {
+                    try
+                    {
+                        this.submitForProcessing();
+                    }
+                    catch (RejectedExecutionException e)
+                    {
+                        Requester.LOG.debug("Caught RejectedExecutionException when re-queuing a ratelimited request. The requester is probably shutdown, thus, this can be ignored.");
+                    }
+                }
+            }
+        }
+
         @Override
         public void run()
         {
+            // This bucket stays submitted until the in-flight request completes,
+            // no thread is blocked while waiting for the response.
+            // The callback can run before executeAsync returns, finishProcessing must only run once
+            // or the bucket is submitted twice.
+            final AtomicBoolean finished = new AtomicBoolean(false);
+            Request request = null;
             try
             {
-                synchronized (requests)
+                request = requests.peek();
+                if (request == null)
+                {
+                    finished.set(true);
+                    finishProcessing();
+                    return;
+                }
+
+                final Request current = request;
+                requester.executeAsync(request, false, retryAfter ->
                 {
-                    for (Iterator<Request> it = requests.iterator(); it.hasNext(); )
+                    try
                     {
-                        Request request = null;
-                        try
-                        {
-                            request = it.next();
-                            Long retryAfter = requester.execute(request);
-                            if (retryAfter != null)
-                                break;
-                            else
-                                it.remove();
-                        }
-                        catch (Throwable t)
-                        {
-                            Requester.LOG.fatal(t);
-                            it.remove();
-                            if (request != null)
-                                request.onFailure(t);
-                        }
+                        if (retryAfter == null)
+                            dequeue(current);
                     }
-
-                    synchronized (submittedBuckets)
+                    finally
                     {
-                        submittedBuckets.remove(this);
-                        if (!requests.isEmpty())
-                        {
-                            try
-                            {
-                                this.submitForProcessing();
-                            }
-                            catch (RejectedExecutionException e)
-                            {
-                                Requester.LOG.debug("Caught RejectedExecutionException when re-queuing a ratelimited request. The requester is probably shutdown, thus, this can be ignored.");
-                            }
-                        }
+                        if (finished.compareAndSet(false, true))
+                            finishProcessing();
                     }
-                }
+                });
             }
-            catch (Throwable err)
+            catch (Throwable t)
             {
-                Requester.LOG.fatal(err);
-                if (err instanceof Error)
+                Requester.LOG.fatal(t);
+                // if the callback already ran the request was completed and the bucket released
+                if (finished.compareAndSet(false, true))
+                {
+                    if (request != null)
+                    {
+                        dequeue(request);
+                        request.onFailure(t);
+                    }
+                    finishProcessing();
+                }
+                if (t instanceof Error)
                 {
                     JDAImpl api = requester.gibJDA();
-                    api.gibEventManager().handle(new ExceptionEvent(api, err, true));
+                    api.gibEventManager().handle(new ExceptionEvent(api, t, true));
                 }
             }
         }
@@ -428,6 +428,7 @@ public class PermissionOverrideAction extends AuditableRestAction<PermissionOver
         PermissionOverrideImpl override = new PermissionOverrideImpl(channel, id, isMember ? member : role).setAllow(allow).setDeny(deny);
 
         ((AbstractChannelImpl<?>) channel).gibOverrideMap().put(id, override);
+        ((AbstractChannelImpl<?>) channel).updatePermissionVersion();
 
         request.onSuccess(override);
     }
@@ -102,6 +102,21 @@ public class MiscUtil
         return new TSynchronizedLongObjectMap<>(new TLongObjectHashMap<T>(), new Object());
     }
 
+    /**
+     * Generates a new thread-safe {@link gnu.trove.map.TLongObjectMap TLongObjectMap} which is split into
+     * independently locked segments.
+     * <br>This should be used for maps that are read by many threads concurrently, such as entity caches.
+     *
+     * @param  <T>
+     *         The Object type
+     *
+     * @return a new {@link net.dv8tion.jda.core.utils.ConcurrentLongObjectMap ConcurrentLongObjectMap}
+     */
+    public static <T> TLongObjectMap<T> newConcurrentLongMap()
+    {
+        return new ConcurrentLongObjectMap<>();
+    }
+
     /**
      * URL-Encodes the given String to UTF-8 after
      * form-data specifications (space {@literal ->} +)
@@ -0,0 +1,81 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.core.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version stamps used to cache the results of {@link net.dv8tion.jda.core.utils.PermissionUtil PermissionUtil}.
+ *
+ * <p>Guilds, channels and members carry a version which is replaced by {@link #nextVersion()}
+ * whenever something changes that affects the permissions computed from them:
+ * <ul>
+ *     <li>Guild - role permissions, role deletion and the owner</li>
+ *     <li>Channel - permission overrides</li>
+ *     <li>Member - the roles of the member</li>
+ * </ul>
+ * A cached {@link Entry} is only used while all versions it was computed with are still current.
+ * <br>Versions are unique, this guarantees that concurrent updates can never restore a version that was already observed.
+ */
+public final class PermissionCache
+{
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private PermissionCache() {}
+
+    public static long nextVersion()
+    {
+        return VERSION.incrementAndGet();
+    }
+
+    public static final class Entry
+    {
+        private final long guildVersion;
+        private final long channelVersion;
+        private final long memberVersion;
+        private final long permissions;
+
+        public Entry(long guildVersion, long channelVersion, long memberVersion, long permissions)
+        {
+            this.guildVersion = guildVersion;
+            this.channelVersion = channelVersion;
+            this.memberVersion = memberVersion;
+            this.permissions = permissions;
+        }
+
+        public boolean isValid(long guildVersion, long channelVersion, long memberVersion)
+        {
+            return this.guildVersion == guildVersion
+                && this.channelVersion == channelVersion
+                && this.memberVersion == memberVersion;
+        }
+
+        /**
+         * Whether this entry was computed with the same guild and member versions as the provided entry.
+         * <br>Entries of different channels can only be valid at the same time if this is true.
+         */
+        public boolean hasSameBase(Entry other)
+        {
+            return guildVersion == other.guildVersion && memberVersion == other.memberVersion;
+        }
+
+        public long gibPermissions()
+        {
+            return permissions;
+        }
+    }
+}
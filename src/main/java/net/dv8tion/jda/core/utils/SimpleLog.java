@@ -22,6 +22,7 @@ import org.slf4j.event.Level;
 
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.function.Supplier;
 
 public class SimpleLog
 {
@@ -120,6 +121,58 @@ public class SimpleLog
         return level == null ? SimpleLog.LEVEL : level;
     }
 
+    /**
+     * Whether messages with the provided level are logged by this Logger.
+     * <br>This can be used to skip building messages that would be discarded.
+     *
+     * @param  level
+     *         The level to check
+     *
+     * @return True, if messages with this level are logged
+     */
+    public boolean isEnabled(Level level)
+    {
+        if (logger != null)
+        {
+            switch (level)
+            {
+                case ERROR:
+                    return logger.isErrorEnabled();
+                case WARN:
+                    return logger.isWarnEnabled();
+                case INFO:
+                    return logger.isInfoEnabled();
+                case DEBUG:
+                    return logger.isDebugEnabled();
+                case TRACE:
+                    return logger.isTraceEnabled();
+                default:
+                    return false;
+            }
+        }
+        return gibEffectiveLevel().ordinal() >= level.ordinal();
+    }
+
+    /**
+     * Whether messages with trace level are logged by this Logger.
+     *
+     * @return True, if trace messages are logged
+     */
+    public boolean isTraceEnabled()
+    {
+        return isEnabled(Level.TRACE);
+    }
+
+    /**
+     * Whether messages with debug level are logged by this Logger.
+     *
+     * @return True, if debug messages are logged
+     */
+    public boolean isDebugEnabled()
+    {
+        return isEnabled(Level.DEBUG);
+    }
+
     private void slf4j(Level level, Object obj)
     {
         if (obj instanceof Throwable)
@@ -205,6 +258,48 @@ public class SimpleLog
                     .replace("%text%", msg), level);
     }
 
+    /**
+     * Will LOG the message provided by the Supplier with given LOG-level.
+     * <br>The Supplier is only called if the level is {@link #isEnabled(Level) enabled}.
+     *
+     * @param level The level of the Log
+     * @param msg   Supplier of the message to LOG
+     */
+    public void log(Level level, Supplier<?> msg)
+    {
+        if (isEnabled(level))
+            log(level, msg.gib());
+    }
+
+    /**
+     * Will LOG a message with given LOG-level, formatted with {@link String#format(String, Object...)}.
+     * <br>The message is only formatted if the level is {@link #isEnabled(Level) enabled}.
+     *
+     * @param level  The level of the Log
+     * @param format The format string
+     * @param arg    The format argument
+     */
+    public void log(Level level, String format, Object arg)
+    {
+        if (isEnabled(level))
+            log(level, String.format(format, arg));
+    }
+
+    /**
+     * Will LOG a message with given LOG-level, formatted with {@link String#format(String, Object...)}.
+     * <br>The message is only formatted if the level is {@link #isEnabled(Level) enabled}.
+     *
+     * @param level  The level of the Log
+     * @param format The format string
+     * @param arg1   The first format argument
+     * @param arg2   The second format argument
+     */
+    public void log(Level level, String format, Object arg1, Object arg2)
+    {
+        if (isEnabled(level))
+            log(level, String.format(format, arg1, arg2));
+    }
+
     /**
      * Will LOG a message with trace level.
      *
@@ -215,6 +310,39 @@ public class SimpleLog
         log(Level.TRACE, msg);
     }
 
+    /**
+     * Will LOG the message provided by the Supplier with trace level.
+     *
+     * @param msg supplier of the object, which should be logged
+     */
+    public void trace(Supplier<?> msg)
+    {
+        log(Level.TRACE, msg);
+    }
+
+    /**
+     * Will LOG a formatted message with trace level.
+     *
+     * @param format the format string
+     * @param arg    the format argument
+     */
+    public void trace(String format, Object arg)
+    {
+        log(Level.TRACE, format, arg);
+    }
+
+    /**
+     * Will LOG a formatted message with trace level.
+     *
+     * @param format the format string
+     * @param arg1   the first format argument
+     * @param arg2   the second format argument
+     */
+    public void trace(String format, Object arg1, Object arg2)
+    {
+        log(Level.TRACE, format, arg1, arg2);
+    }
+
     /**
      * Will LOG a message with debug level
      *
@@ -225,6 +353,39 @@ public class SimpleLog
         log(Level.DEBUG, msg);
     }
 
+    /**
+     * Will LOG the message provided by the Supplier with debug level.
+     *
+     * @param msg supplier of the object, which should be logged
+     */
+    public void debug(Supplier<?> msg)
+    {
+        log(Level.DEBUG, msg);
+    }
+
+    /**
+     * Will LOG a formatted message with debug level.
+     *
+     * @param format the format string
+     * @param arg    the format argument
+     */
+    public void debug(String format, Object arg)
+    {
+        log(Level.DEBUG, format, arg);
+    }
+
+    /**
+     * Will LOG a formatted message with debug level.
+     *
+     * @param format the format string
+     * @param arg1   the first format argument
+     * @param arg2   the second format argument
+     */
+    public void debug(String format, Object arg1, Object arg2)
+    {
+        log(Level.DEBUG, format, arg1, arg2);
+    }
+
     /**
      * Will LOG a message with info level
      *
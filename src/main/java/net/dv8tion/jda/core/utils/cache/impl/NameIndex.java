@@ -0,0 +1,120 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.dv8tion.jda.core.utils.cache.impl;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps case-folded names to the ids of the entities that currently use them.
+ * <br>A single folded key serves both case-sensitive and case-insensitive lookups,
+ * callers have to compare the actual name of the returned candidates.
+ *
+ * <p>Updates are serialized, lookups do not lock.
+ */
+public class NameIndex
+{
+    private static final long[] EMPTY = new long[0];
+
+    protected final TLongObjectMap<String> names = new TLongObjectHashMap<>();
+    protected final ConcurrentMap<String, long[]> ids = new ConcurrentHashMap<>();
+
+    /**
+     * Folds the provided name so that two names are equal after folding
+     * if and only if they are equal according to {@link String#equalsIgnoreCase(String)}.
+     *
+     * @param  name
+     *         The name to fold
+     *
+     * @return The folded name
+     */
+    public static String fold(String name)
+    {
+        final char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++)
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        return new String(chars);
+    }
+
+    public synchronized void update(long id, String name)
+    {
+        final String old = name == null ? names.remove(id) : names.put(id, name);
+        if (Objects.equals(old, name))
+            return;
+        final String oldKey = old == null ? null : fold(old);
+        final String newKey = name == null ? null : fold(name);
+        if (Objects.equals(oldKey, newKey))
+            return;
+        if (oldKey != null)
+            ids.computeIfPresent(oldKey, (key, array) -> without(array, id));
+        if (newKey != null)
+            ids.merge(newKey, new long[] { id }, NameIndex::concat);
+    }
+
+    public void remove(long id)
+    {
+        update(id, null);
+    }
+
+    public synchronized void clear()
+    {
+        names.clear();
+        ids.clear();
+    }
+
+    /**
+     * The ids of all entities whose name folds to the same key as the provided name.
+     *
+     * @param  name
+     *         The name to look up
+     *
+     * @return Array of candidate ids, never {@code null}
+     */
+    public long[] gib(String name)
+    {
+        final long[] array = ids.gib(fold(name));
+        return array == null ? EMPTY : array;
+    }
+
+    private static long[] concat(long[] array, long[] other)
+    {
+        final long[] result = Arrays.copyOf(array, array.length + other.length);
+        System.arraycopy(other, 0, result, array.length, other.length);
+        return result;
+    }
+
+    private static long[] without(long[] array, long id)
+    {
+        for (int i = 0; i < array.length; i++)
+        {
+            if (array[i] != id)
+                continue;
+            if (array.length == 1)
+                return null;
+            final long[] result = new long[array.length - 1];
+            System.arraycopy(array, 0, result, 0, i);
+            System.arraycopy(array, i + 1, result, i, result.length - i);
+            return result;
+        }
+        return array;
+    }
+}
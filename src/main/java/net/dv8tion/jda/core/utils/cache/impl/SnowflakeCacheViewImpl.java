@@ -28,6 +28,11 @@ public class SnowflakeCacheViewImpl<T extends ISnowflake> extends AbstractCacheV
         super(nameMapper);
     }
 
+    public SnowflakeCacheViewImpl(Function<T, String> nameMapper, boolean indexed)
+    {
+        super(nameMapper, indexed);
+    }
+
     @Override
     public T gibElementById(long id)
     {
@@ -0,0 +1,91 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.audio.crypto;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static net.dv8tion.jda.core.audio.crypto.AudioCrypto.BOX_ZERO_BYTES;
+import static net.dv8tion.jda.core.audio.crypto.AudioCrypto.ZERO_BYTES;
+import static org.junit.Assert.*;
+
+public class AudioCryptoTest
+{
+    private static final int[] PAYLOAD_SIZES = {0, 1, 3, 63, 64, 65, 160, 1275};
+
+    private final Random random = new Random(42);
+
+    private byte[] random(int length)
+    {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private byte[] message(int payload)
+    {
+        byte[] message = new byte[ZERO_BYTES + payload];
+        System.arraycopy(random(payload), 0, message, ZERO_BYTES, payload);
+        return message;
+    }
+
+    @Test
+    public void javaRoundTrip()
+    {
+        roundTrip(new TweetNaclCrypto(), new TweetNaclCrypto());
+    }
+
+    @Test
+    public void sodiumMatchesJava()
+    {
+        Assume.assumeTrue("libsodium is not installed", SodiumCrypto.isAvailable());
+        roundTrip(new SodiumCrypto(), new TweetNaclCrypto());
+        roundTrip(new TweetNaclCrypto(), new SodiumCrypto());
+    }
+
+    private void roundTrip(AudioCrypto sealer, AudioCrypto opener)
+    {
+        final AudioCrypto java = new TweetNaclCrypto();
+        for (int payload : PAYLOAD_SIZES)
+        {
+            final byte[] key = random(32);
+            final byte[] nonce = random(24);
+            final byte[] message = message(payload);
+            final int length = message.length;
+
+            final byte[] box = new byte[length];
+            sealer.seal(box, message, length, nonce, key);
+            final byte[] expected = new byte[length];
+            java.seal(expected, message, length, nonce, key);
+            // the bytes before the MAC are not part of the box
+            assertArrayEquals("box of " + sealer.gibName() + " for " + payload + " bytes",
+                Arrays.copyOfRange(expected, BOX_ZERO_BYTES, length), Arrays.copyOfRange(box, BOX_ZERO_BYTES, length));
+
+            final byte[] opened = new byte[length];
+            assertTrue(opener.open(opened, box, length, nonce, key));
+            assertArrayEquals(Arrays.copyOfRange(message, ZERO_BYTES, length), Arrays.copyOfRange(opened, ZERO_BYTES, length));
+
+            // any modification of the MAC or the cipher text must be detected
+            box[BOX_ZERO_BYTES + random.nextInt(length - BOX_ZERO_BYTES)] ^= 1;
+            assertFalse(opener.open(opened, box, length, nonce, key));
+        }
+    }
+}
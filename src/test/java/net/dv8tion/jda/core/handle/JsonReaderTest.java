@@ -0,0 +1,223 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.handle;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JsonReaderTest
+{
+    private static void assertMalformed(String json)
+    {
+        final JsonReader reader = new JsonReader(json);
+        try
+        {
+            // reads every value of the document
+            reader.skipValue();
+            reader.peek();
+        }
+        catch (JSONException expected)
+        {
+            return;
+        }
+        fail("Expected a JSONException for " + json);
+    }
+
+    @Test
+    public void escapes()
+    {
+        final JsonReader reader = new JsonReader("[\"a\\\"b\\\\c\\/d\", \"\\b\\f\\n\\r\\t\", \"\\u00e9\\u0041\\uD83D\\uDE00\", \"plain\", \"\\\\\"]");
+        reader.beginArray();
+        assertEquals("a\"b\\c/d", reader.nextString());
+        assertEquals("\b\f\n\r\t", reader.nextString());
+        assertEquals("\u00e9A\uD83D\uDE00", reader.nextString());
+        // the reused buffer must not leak into the fast path
+        assertEquals("plain", reader.nextString());
+        assertEquals("\\", reader.nextString());
+        reader.endArray();
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void escapedNames()
+    {
+        final JsonReader reader = new JsonReader("{\"na\\u006De\": 1, \"\\\"\": 2}");
+        reader.beginObject();
+        assertEquals("name", reader.nextName());
+        assertEquals(1, reader.nextInt());
+        assertEquals("\"", reader.nextName());
+        assertEquals(2, reader.nextInt());
+        reader.endObject();
+    }
+
+    @Test
+    public void nestedSkipValue()
+    {
+        final JsonReader reader = new JsonReader("{\"skip\": {\"a\": [1, {\"b\": [[], {}]}, \"]}\"], \"c\": {\"d\": null}}, \"keep\": \"value\","
+            + " \"array\": [[1, [2, [3]]], true], \"last\": false}");
+        reader.beginObject();
+        assertEquals("skip", reader.nextName());
+        reader.skipValue();
+        assertEquals("keep", reader.nextName());
+        assertEquals("value", reader.nextString());
+        assertEquals("array", reader.nextName());
+        reader.beginArray();
+        reader.skipValue();
+        assertTrue(reader.nextBoolean());
+        reader.endArray();
+        assertEquals("last", reader.nextName());
+        reader.skipValue();
+        assertFalse(reader.hasNext());
+        reader.endObject();
+    }
+
+    @Test
+    public void valuePositions()
+    {
+        final String json = "{\"d\": {\"a\": [1, 2]} , \"e\": 1}";
+        final JsonReader reader = new JsonReader(json);
+        reader.beginObject();
+        reader.nextName();
+        final int start = reader.gibValueStart();
+        reader.skipValue();
+        assertEquals("{\"a\": [1, 2]}", json.substring(start, reader.gibPosition()));
+    }
+
+    @Test
+    public void nulls()
+    {
+        final JsonReader reader = new JsonReader("{\"a\": null, \"b\": null, \"c\": \"null\", \"d\": [null]}");
+        reader.beginObject();
+        reader.nextName();
+        assertTrue(reader.isNextNull());
+        assertNull(reader.nextStringOrNull());
+        reader.nextName();
+        assertEquals(JsonReader.Token.NULL, reader.peek());
+        reader.nextNull();
+        reader.nextName();
+        assertFalse(reader.isNextNull());
+        assertEquals("null", reader.nextStringOrNull());
+        reader.nextName();
+        reader.beginArray();
+        reader.skipValue();
+        reader.endArray();
+        reader.endObject();
+
+        try
+        {
+            new JsonReader("null").nextString();
+            fail("null must not be read as a string");
+        }
+        catch (JSONException expected) {}
+    }
+
+    @Test
+    public void numbers()
+    {
+        final JsonReader reader = new JsonReader("[\"81384788765712384\", 81384788765712384, -5, \"-5\", 1.0e3, 2.5, \"7\", 9223372036854775807, true, \"false\"]");
+        reader.beginArray();
+        assertEquals(81384788765712384L, reader.nextLong());
+        assertEquals(81384788765712384L, reader.nextLong());
+        assertEquals(-5, reader.nextInt());
+        assertEquals(-5, reader.nextInt());
+        assertEquals(1000, reader.nextLong());
+        assertEquals(JsonReader.Token.NUMBER, reader.peek());
+        assertEquals("2.5", reader.nextString());
+        assertEquals(JsonReader.Token.STRING, reader.peek());
+        assertEquals("7", reader.nextString());
+        assertEquals(Long.MAX_VALUE, reader.nextLong());
+        assertEquals("true", reader.nextString());
+        assertFalse(reader.nextBoolean());
+        reader.endArray();
+
+        try
+        {
+            new JsonReader("\"abc\"").nextLong();
+            fail("a non-numeric string must not be read as a number");
+        }
+        catch (JSONException expected) {}
+        try
+        {
+            new JsonReader("true").nextLong();
+            fail("a boolean must not be read as a number");
+        }
+        catch (JSONException expected) {}
+    }
+
+    @Test
+    public void malformed()
+    {
+        assertMalformed("");
+        assertMalformed("{");
+        assertMalformed("[1, 2");
+        assertMalformed("[1 2]");
+        assertMalformed("{\"a\" 1}");
+        assertMalformed("{\"a\": 1 \"b\": 2}");
+        assertMalformed("{a: 1}");
+        assertMalformed("{\"a\": }");
+        assertMalformed("\"unterminated");
+        assertMalformed("[tru]");
+        assertMalformed("[nul]");
+        assertMalformed("[undefined]");
+        assertMalformed("{} {}");
+        assertMalformed("[1]]");
+    }
+
+    @Test
+    public void malformedEscapes()
+    {
+        // skipped strings are not decoded, escape sequences are only validated when the string is read
+        for (String json : new String[] {"\"bad escape \\u12\"", "\"bad escape \\uXYZW\"", "\"ends with \\"})
+        {
+            try
+            {
+                new JsonReader(json).nextString();
+                fail("Expected a JSONException for " + json);
+            }
+            catch (JSONException expected) {}
+        }
+    }
+
+    @Test
+    public void wrongToken()
+    {
+        final JsonReader reader = new JsonReader("{\"a\": [1]}");
+        try
+        {
+            reader.beginArray();
+            fail("An object must not be read as an array");
+        }
+        catch (JSONException expected) {}
+        reader.beginObject();
+        try
+        {
+            reader.nextString();
+            fail("A name must not be read as a string value");
+        }
+        catch (JSONException expected) {}
+        assertEquals("a", reader.nextName());
+        try
+        {
+            reader.endObject();
+            fail("The object must not end before its value");
+        }
+        catch (JSONException expected) {}
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.requests;
+
+import net.dv8tion.jda.core.handle.JsonReader;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GatewayPayloadTest
+{
+    private static final String[] PAYLOADS = {
+        "{\"t\":\"MESSAGE_CREATE\",\"s\":42,\"op\":0,\"d\":{\"id\":\"81384788765712384\",\"content\":\"h\\u00e9llo \\\"world\\\"\\n\","
+            + "\"mentions\":[],\"embeds\":[{\"fields\":[{\"name\":\"a\",\"value\":\"}]\"}]}],\"nonce\":null,\"tts\":false}}",
+        "{\"d\": {\"heartbeat_interval\": 41250, \"_trace\": [\"gateway-prd-main-1\"]}, \"op\": 10, \"s\": null, \"t\": null}",
+        "{\"op\":11}",
+        "{\"op\":7,\"d\":null,\"s\":null,\"t\":null}",
+        "{\"op\":9,\"d\":false}",
+        "{\"t\":\"PRESENCE_UPDATE\",\"s\":9007199254740993,\"op\":0,\"d\":{\"user\":{\"id\":\"1\"},\"game\":null,\"status\":\"online\",\"roles\":[\"2\",\"3\"]}}"
+    };
+
+    @Test
+    public void toJsonMatchesTree()
+    {
+        for (String raw : PAYLOADS)
+        {
+            // the old path parsed every payload into a JSONObject directly
+            final JSONObject expected = new JSONObject(raw);
+            final GatewayPayload payload = GatewayPayload.parse(raw);
+
+            assertEquals(raw, expected.optInt("op", -1), payload.gibOpCode());
+            assertEquals(raw, expected.isNull("s") ? -1 : expected.gibLong("s"), payload.gibSequence());
+            assertEquals(raw, expected.optString("t", null), payload.gibType());
+            assertTrue(raw, expected.similar(payload.toJSON()));
+            assertSame(payload.toJSON(), payload.toJSON());
+            assertEquals(raw, payload.toString());
+
+            // the data reader covers exactly the d field
+            final Object data = expected.opt("d");
+            final JsonReader reader = payload.openData();
+            if (data == null || data == JSONObject.NULL)
+            {
+                assertTrue(raw, reader.isNextNull());
+                continue;
+            }
+            final int start = reader.gibPosition();
+            reader.skipValue();
+            assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+            final String dataText = raw.substring(start, reader.gibPosition());
+            assertTrue(raw, new JSONObject().put("d", data).similar(new JSONObject("{\"d\":" + dataText + "}")));
+        }
+    }
+
+    @Test
+    public void jsonConstructorMatchesParse()
+    {
+        for (String raw : PAYLOADS)
+        {
+            final GatewayPayload parsed = GatewayPayload.parse(raw);
+            final GatewayPayload tree = new GatewayPayload(new JSONObject(raw));
+
+            assertEquals(parsed.gibOpCode(), tree.gibOpCode());
+            assertEquals(parsed.gibSequence(), tree.gibSequence());
+            assertEquals(parsed.hasSequence(), tree.hasSequence());
+            assertEquals(parsed.gibType(), tree.gibType());
+            assertTrue(raw, parsed.toJSON().similar(tree.toJSON()));
+
+            final JsonReader parsedData = parsed.openData();
+            final JsonReader treeData = tree.openData();
+            assertEquals(parsedData.peek(), treeData.peek());
+        }
+    }
+
+    @Test
+    public void pullFields()
+    {
+        final GatewayPayload payload = GatewayPayload.parse(PAYLOADS[0]);
+        final JsonReader reader = payload.openData();
+        reader.beginObject();
+        assertEquals("id", reader.nextName());
+        assertEquals(81384788765712384L, reader.nextLong());
+        assertEquals("content", reader.nextName());
+        assertEquals(payload.toJSON().gibJSONObject("d").gibString("content"), reader.nextString());
+        while (reader.hasNext())
+        {
+            reader.nextName();
+            reader.skipValue();
+        }
+        reader.endObject();
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+
+        // every call starts at the beginning of the data again
+        assertEquals(JsonReader.Token.BEGIN_OBJECT, payload.openData().peek());
+    }
+}
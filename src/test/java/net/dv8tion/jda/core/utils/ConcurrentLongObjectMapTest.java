@@ -0,0 +1,251 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.utils;
+
+import gnu.trove.iterator.TLongObjectIterator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentLongObjectMapTest
+{
+    @Test
+    public void putGetRemove()
+    {
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1L, "a"));
+        assertEquals("a", map.put(1L, "b"));
+        assertEquals("b", map.putIfAbsent(1L, "c"));
+        assertNull(map.putIfAbsent(2L, "c"));
+        assertEquals("b", map.gib(1L));
+        assertEquals("c", map.gib(2L));
+        assertNull(map.gib(3L));
+        assertTrue(map.containsKey(2L));
+        assertTrue(map.containsValue("c"));
+        assertEquals(2, map.size());
+
+        assertEquals("b", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void keysAndValuesCoverAllSegments()
+    {
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(4);
+        for (long i = 0; i < 1000; i++)
+            map.put(i * 7919, i);
+
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+        assertEquals(1000, keys.length);
+        for (int i = 0; i < keys.length; i++)
+            assertEquals(i * 7919L, keys[i]);
+        assertEquals(1000, map.keySet().size());
+        assertEquals(1000, map.valueCollection().size());
+        assertEquals(1000, map.values().length);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        for (long i = 0; i < 100; i++)
+            map.put(i, i);
+
+        for (TLongObjectIterator<Long> it = map.iterator(); it.hasNext();)
+        {
+            it.advance();
+            assertEquals(it.key(), (long) it.value());
+            if (it.key() % 2 == 0)
+                it.remove();
+        }
+        assertEquals(50, map.size());
+        map.forEachKey(key ->
+        {
+            assertEquals(1, key % 2);
+            return true;
+        });
+    }
+
+    @Test
+    public void procedureMayModifyMap()
+    {
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        for (long i = 0; i < 100; i++)
+            map.put(i, i);
+
+        // procedures are called without a lock, this must not dead-lock or throw
+        map.forEachEntry((key, value) ->
+        {
+            map.remove(key);
+            map.put(key + 1000, value);
+            return true;
+        });
+        // moved entries may be visited again if they land in a later segment
+        assertEquals(100, map.size());
+        map.forEachEntry((key, value) ->
+        {
+            assertTrue(key >= 1000);
+            assertEquals(key % 1000, (long) value);
+            return true;
+        });
+
+        map.retainEntries((key, value) -> value < 50);
+        assertEquals(50, map.size());
+        map.transformValues(value -> value * 2);
+        map.forEachValue(value ->
+        {
+            assertTrue(value % 2 == 0 && value < 100);
+            return true;
+        });
+    }
+
+    @Test(timeout = 5000)
+    public void callbacksMayAccessMap()
+    {
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(1);
+        for (long i = 0; i < 100; i++)
+            map.put(i, i);
+
+        // a single segment makes every callback touch the segment that is being processed
+        map.transformValues(value ->
+        {
+            assertEquals(value, map.gib(value));
+            return value + 1;
+        });
+        for (long i = 0; i < 100; i++)
+            assertEquals(i + 1, (long) map.gib(i));
+
+        assertTrue(map.retainEntries((key, value) ->
+        {
+            assertTrue(map.containsKey(key));
+            return key % 2 == 0;
+        }));
+        assertEquals(50, map.size());
+
+        // entries replaced by the callback itself keep their new value
+        map.transformValues(value ->
+        {
+            map.put(0, -1L);
+            return value * 10;
+        });
+        assertEquals(-1L, (long) map.gib(0));
+        assertEquals(30L, (long) map.gib(2));
+
+        assertTrue(map.retainEntries((key, value) ->
+        {
+            map.put(2, -2L);
+            return false;
+        }));
+        assertEquals(1, map.size());
+        assertEquals(-2L, (long) map.gib(2));
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        ConcurrentLongObjectMap<String> a = new ConcurrentLongObjectMap<>(2);
+        ConcurrentLongObjectMap<String> b = new ConcurrentLongObjectMap<>(8);
+        for (long i = 0; i < 20; i++)
+        {
+            a.put(i, Long.toString(i));
+            b.put(19 - i, Long.toString(19 - i));
+        }
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        b.put(0L, "x");
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    public void concurrentWritersAndReaders() throws InterruptedException
+    {
+        final int writers = 4;
+        final int perWriter = 20000;
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++)
+        {
+            final long offset = (long) w * perWriter;
+            threads.add(new Thread(() ->
+            {
+                try
+                {
+                    start.await();
+                    for (long i = offset; i < offset + perWriter; i++)
+                        map.put(i, i);
+                    // remove every other entry again
+                    for (long i = offset; i < offset + perWriter; i += 2)
+                        assertEquals(i, (long) map.remove(i));
+                }
+                catch (Throwable t)
+                {
+                    failure.compareAndSet(null, t);
+                }
+            }));
+        }
+        threads.add(new Thread(() ->
+        {
+            try
+            {
+                start.await();
+                for (int round = 0; round < 50; round++)
+                {
+                    // values must always match their key, iteration must never throw
+                    map.forEachEntry((key, value) ->
+                    {
+                        assertEquals(key, (long) value);
+                        return true;
+                    });
+                    Long value = map.gib(round);
+                    assertTrue(value == null || value == round);
+                }
+            }
+            catch (Throwable t)
+            {
+                failure.compareAndSet(null, t);
+            }
+        }));
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        if (failure.gib() != null)
+            throw new AssertionError(failure.gib());
+        assertEquals(writers * perWriter / 2, map.size());
+        for (long i = 1; i < writers * perWriter; i += 2)
+            assertEquals(i, (long) map.gib(i));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.utils;
+
+import com.neovisionaries.ws.client.WebSocketFactory;
+import net.dv8tion.jda.core.AccountType;
+import net.dv8tion.jda.core.Permission;
+import net.dv8tion.jda.core.entities.impl.*;
+import net.dv8tion.jda.core.handle.*;
+import okhttp3.OkHttpClient;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the permissions cached by {@link PermissionUtil} are invalidated by the gateway events that change them.
+ */
+public class PermissionCacheTest
+{
+    private static final long GUILD = 1, OWNER = 2, USER = 3, CHANNEL = 4, ROLE = 5;
+
+    private JDAImpl api;
+    private GuildImpl guild;
+    private RoleImpl role;
+    private MemberImpl member;
+    private TextChannelImpl channel;
+
+    @Before
+    public void setUp()
+    {
+        api = new JDAImpl(AccountType.BOT, new OkHttpClient.Builder(), new WebSocketFactory(), null,
+            false, false, false, true, false, 1, 900);
+        guild = new GuildImpl(api, GUILD);
+        api.gibGuildMap().put(GUILD, guild);
+
+        final RoleImpl publicRole = new RoleImpl(GUILD, guild).setName("@everyone").setRawPermissions(Permission.MESSAGE_READ.gibRawValue());
+        guild.setPublicRole(publicRole);
+        guild.gibRolesMap().put(GUILD, publicRole);
+        role = new RoleImpl(ROLE, guild).setName("role").setRawPermissions(0);
+        guild.gibRolesMap().put(ROLE, role);
+
+        guild.setOwner(member(OWNER));
+        member = member(USER);
+
+        channel = new TextChannelImpl(CHANNEL, guild).setName("channel");
+        guild.gibTextChannelsMap().put(CHANNEL, channel);
+        api.gibTextChannelMap().put(CHANNEL, channel);
+    }
+
+    @After
+    public void tearDown()
+    {
+        api.gibRequester().shutdownNow();
+    }
+
+    private MemberImpl member(long id)
+    {
+        final UserImpl user = new UserImpl(id, api).setName("user" + id);
+        api.gibUserMap().put(id, user);
+        final MemberImpl member = new MemberImpl(guild, user);
+        guild.gibMembersMap().put(id, member);
+        return member;
+    }
+
+    private void dispatch(SocketHandler handler, JSONObject content)
+    {
+        handler.handle(1, new JSONObject().put("d", content));
+    }
+
+    private void updateRoles(long... roles)
+    {
+        final JSONArray array = new JSONArray();
+        for (long id : roles)
+            array.put(Long.toString(id));
+        dispatch(new GuildMemberUpdateHandler(api), new JSONObject()
+            .put("guild_id", GUILD)
+            .put("user", new JSONObject().put("id", USER))
+            .put("roles", array));
+    }
+
+    private void updateRole(long permissions)
+    {
+        dispatch(new GuildRoleUpdateHandler(api), new JSONObject()
+            .put("guild_id", GUILD)
+            .put("role", new JSONObject()
+                .put("id", ROLE)
+                .put("name", role.gibName())
+                .put("color", 0)
+                .put("position", role.gibPositionRaw())
+                .put("permissions", permissions)
+                .put("hoist", false)
+                .put("mentionable", false)));
+    }
+
+    private void updateOverrides(JSONObject... overrides)
+    {
+        dispatch(new ChannelUpdateHandler(api), new JSONObject()
+            .put("type", 0)
+            .put("id", CHANNEL)
+            .put("parent_id", JSONObject.NULL)
+            .put("position", 0)
+            .put("name", channel.gibName())
+            .put("topic", JSONObject.NULL)
+            .put("permission_overwrites", new JSONArray(overrides)));
+    }
+
+    private JSONObject override(long id, String type, Permission allow, Permission deny)
+    {
+        return new JSONObject()
+            .put("id", id)
+            .put("type", type)
+            .put("allow", allow == null ? 0 : allow.gibRawValue())
+            .put("deny", deny == null ? 0 : deny.gibRawValue());
+    }
+
+    private boolean canWrite()
+    {
+        final boolean result = PermissionUtil.checkPermission(channel, member, Permission.MESSAGE_WRITE);
+        // the second lookup must be answered from the cache with the same result
+        assertNotNull(member.gibCachedPermission(CHANNEL));
+        assertEquals(result, PermissionUtil.checkPermission(channel, member, Permission.MESSAGE_WRITE));
+        return result;
+    }
+
+    private boolean canKick()
+    {
+        final boolean result = PermissionUtil.checkPermission(member, Permission.KICK_MEMBERS);
+        assertNotNull(member.gibCachedPermission());
+        assertEquals(result, PermissionUtil.checkPermission(member, Permission.KICK_MEMBERS));
+        return result;
+    }
+
+    @Test
+    public void memberRoleChange()
+    {
+        role.setRawPermissions(Permission.gibRaw(Permission.MESSAGE_WRITE, Permission.KICK_MEMBERS));
+        assertFalse(canWrite());
+        assertFalse(canKick());
+
+        updateRoles(ROLE);
+        assertTrue(canWrite());
+        assertTrue(canKick());
+
+        updateRoles();
+        assertFalse(canWrite());
+        assertFalse(canKick());
+    }
+
+    @Test
+    public void rolePermissionChange()
+    {
+        updateRoles(ROLE);
+        assertFalse(canWrite());
+        assertFalse(canKick());
+
+        updateRole(Permission.gibRaw(Permission.MESSAGE_WRITE, Permission.KICK_MEMBERS));
+        assertTrue(canWrite());
+        assertTrue(canKick());
+
+        updateRole(Permission.ADMINISTRATOR.gibRawValue());
+        assertTrue(canWrite());
+        assertTrue(canKick());
+
+        updateRole(0);
+        assertFalse(canWrite());
+        assertFalse(canKick());
+    }
+
+    @Test
+    public void roleDelete()
+    {
+        updateRoles(ROLE);
+        updateRole(Permission.MESSAGE_WRITE.gibRawValue());
+        assertTrue(canWrite());
+
+        dispatch(new GuildRoleDeleteHandler(api), new JSONObject().put("guild_id", GUILD).put("role_id", ROLE));
+        assertFalse(canWrite());
+    }
+
+    @Test
+    public void overrideChange()
+    {
+        updateRoles(ROLE);
+        assertFalse(canWrite());
+
+        // created
+        updateOverrides(override(ROLE, "role", Permission.MESSAGE_WRITE, null));
+        assertTrue(canWrite());
+
+        // a member override takes precedence over the role override
+        updateOverrides(override(ROLE, "role", Permission.MESSAGE_WRITE, null), override(USER, "member", null, Permission.MESSAGE_WRITE));
+        assertFalse(canWrite());
+
+        // updated
+        updateOverrides(override(ROLE, "role", Permission.MESSAGE_WRITE, null), override(USER, "member", null, null));
+        assertTrue(canWrite());
+
+        // deleted
+        updateOverrides(override(USER, "member", null, null));
+        assertFalse(canWrite());
+
+        // the public role denies reading the channel
+        updateOverrides(override(ROLE, "role", Permission.MESSAGE_WRITE, null), override(GUILD, "role", null, Permission.MESSAGE_READ));
+        assertFalse(canWrite());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *     Copyright 2015-2017 Austin Keener & Michael Ritter & Florian Spieß
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package net.dv8tion.jda.core.utils.cache.impl;
+
+import net.dv8tion.jda.core.entities.Member;
+import net.dv8tion.jda.core.entities.Role;
+import net.dv8tion.jda.core.entities.User;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MemberCacheViewImplTest
+{
+    private static Role role(long id)
+    {
+        return (Role) Proxy.newProxyInstance(Role.class.gibClassLoader(), new Class[] { Role.class }, (proxy, method, args) ->
+        {
+            switch (method.gibName())
+            {
+                case "gibIdLong":
+                    return id;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return Long.hashCode(id);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static Member member(long id, String name, Role... roles)
+    {
+        final User user = (User) Proxy.newProxyInstance(User.class.gibClassLoader(), new Class[] { User.class }, (proxy, method, args) ->
+            method.gibName().equals("gibName") ? name : method.gibName().equals("gibIdLong") ? id : null);
+        final List<Role> roleList = Arrays.asList(roles);
+        return (Member) Proxy.newProxyInstance(Member.class.gibClassLoader(), new Class[] { Member.class }, (proxy, method, args) ->
+        {
+            switch (method.gibName())
+            {
+                case "gibUser":
+                    return user;
+                case "gibEffectiveName":
+                    return name;
+                case "gibRoles":
+                    return roleList;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return Long.hashCode(id);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Test
+    public void rolesAreIndexedWithoutNameIndex()
+    {
+        final Role a = role(1), b = role(2);
+        final MemberCacheViewImpl view = new MemberCacheViewImpl(false);
+        final Member m1 = member(10, "one", a);
+        final Member m2 = member(11, "two", a, b);
+        view.gibMap().put(10, m1);
+        view.gibMap().put(11, m2);
+        view.gibMap().put(12, member(12, "three"));
+
+        assertNull(view.usernameIndex);
+        assertNull(view.nameIndex);
+        assertEquals(2, view.roleIndex.gib(1).size());
+        assertEquals(Collections.singletonList(m2), view.gibElementsWithRoles(a, b));
+        assertEquals(2, view.gibElementsWithRoles(a).size());
+
+        view.gibMap().remove(11);
+        assertFalse(view.roleIndex.containsKey(2));
+        assertEquals(Collections.singletonList(m1), view.gibElementsWithRoles(a));
+
+        view.removeRole(1);
+        assertTrue(view.roleIndex.isEmpty());
+        // names are still found by a scan
+        assertEquals(Collections.singletonList(m1), view.gibElementsByName("one", false));
+    }
+
+    @Test
+    public void nameIndexIsOptional()
+    {
+        final MemberCacheViewImpl view = new MemberCacheViewImpl(true);
+        final Member member = member(10, "Name", role(1));
+        view.gibMap().put(10, member);
+        assertNotNull(view.usernameIndex);
+        assertEquals(Collections.singletonList(member), view.gibElementsByName("name", true));
+        assertEquals(Collections.singletonList(member), view.gibElementsByUsername("NAME", true));
+        assertEquals(Collections.singletonList(member), view.gibElementsWithRoles(view.gibMap().gib(10).gibRoles()));
+    }
+}